@@ -0,0 +1,92 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import com.google.common.collect.Lists;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxy;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
+import org.cyclops.integrateddynamics.core.evaluate.operator.Operators;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark the iteration and lookup in materialized and derived list proxies.
+ * Derived proxies are recreated in each invocation, so that their lazily pulled elements are included.
+ * @author rubensworks
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListProxyBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int size;
+
+    private ValueTypeListProxyMaterialized<ValueTypeInteger, ValueTypeInteger.ValueInteger> materialized;
+    private ValueTypeOperator.ValueOperator filterPredicate;
+    private ValueTypeInteger.ValueInteger last;
+
+    @Setup
+    public void setup() throws EvaluationException {
+        ValueCastMappings.load();
+        ValueTypeListProxyFactories.load();
+        List<ValueTypeInteger.ValueInteger> values = Lists.newArrayListWithExpectedSize(size);
+        for (int i = 0; i < size; i++) {
+            // Every element occurs twice, for the uniq proxy.
+            values.add(ValueTypeInteger.ValueInteger.of(i / 2));
+        }
+        materialized = new ValueTypeListProxyMaterialized<>(ValueTypes.INTEGER, values);
+        last = values.get(size - 1);
+
+        DummyVariableOperator oRelationalLt = new DummyVariableOperator(ValueTypeOperator.ValueOperator.of(Operators.RELATIONAL_LT));
+        DummyVariableInteger quarter = new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(size / 4));
+        filterPredicate = (ValueTypeOperator.ValueOperator) Operators.OPERATOR_APPLY.evaluate(new IVariable[]{oRelationalLt, quarter});
+    }
+
+    protected void consume(IValueTypeListProxy<?, ?> list, Blackhole blackhole) {
+        for (Object value : list) {
+            blackhole.consume(value);
+        }
+    }
+
+    @Benchmark
+    public void iterateMaterialized(Blackhole blackhole) {
+        consume(materialized, blackhole);
+    }
+
+    @Benchmark
+    public boolean containsMaterialized() throws EvaluationException {
+        return materialized.contains(last);
+    }
+
+    @Benchmark
+    public void iterateFiltered(Blackhole blackhole) {
+        consume(new ValueTypeListProxyFiltered<>(filterPredicate.getRawValue(), materialized), blackhole);
+    }
+
+    @Benchmark
+    public void iterateUniq(Blackhole blackhole) {
+        consume(new ValueTypeListProxyUniq<>(materialized), blackhole);
+    }
+
+    @Benchmark
+    public int lengthUniq() throws EvaluationException {
+        return new ValueTypeListProxyUniq<>(materialized).getLength();
+    }
+
+}
@@ -0,0 +1,80 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
+import org.cyclops.integrateddynamics.core.evaluate.operator.Operators;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark the evaluation of chains of operators, as they are built by nested variable cards.
+ * @author rubensworks
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OperatorBenchmark {
+
+    @Param({"1", "10", "100"})
+    public int depth;
+
+    private DummyVariableInteger i1;
+    private DummyVariableOperator oIntegerIncrement;
+    private DummyVariableOperator oCurriedAddition;
+
+    @Setup
+    public void setup() throws EvaluationException {
+        ValueCastMappings.load();
+        i1 = new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(1));
+        oIntegerIncrement = new DummyVariableOperator(ValueTypeOperator.ValueOperator.of(Operators.INTEGER_INCREMENT));
+        DummyVariableOperator oAddition = new DummyVariableOperator(ValueTypeOperator.ValueOperator.of(Operators.ARITHMETIC_ADDITION));
+        oCurriedAddition = new DummyVariableOperator((ValueTypeOperator.ValueOperator)
+                Operators.OPERATOR_APPLY.evaluate(new IVariable[]{oAddition, i1}));
+    }
+
+    @Benchmark
+    public IValue additionChain() throws EvaluationException {
+        IVariable variable = i1;
+        for (int i = 0; i < depth; i++) {
+            variable = new DummyVariableInteger((ValueTypeInteger.ValueInteger)
+                    Operators.ARITHMETIC_ADDITION.evaluate(new IVariable[]{variable, i1}));
+        }
+        return variable.getValue();
+    }
+
+    @Benchmark
+    public IValue incrementApplyChain() throws EvaluationException {
+        IVariable variable = i1;
+        for (int i = 0; i < depth; i++) {
+            variable = new DummyVariableInteger((ValueTypeInteger.ValueInteger)
+                    Operators.OPERATOR_APPLY.evaluate(new IVariable[]{oIntegerIncrement, variable}));
+        }
+        return variable.getValue();
+    }
+
+    @Benchmark
+    public IValue curriedApplyChain() throws EvaluationException {
+        IVariable variable = i1;
+        for (int i = 0; i < depth; i++) {
+            variable = new DummyVariableInteger((ValueTypeInteger.ValueInteger)
+                    Operators.OPERATOR_APPLY.evaluate(new IVariable[]{oCurriedAddition, variable}));
+        }
+        return variable.getValue();
+    }
+
+}
@@ -0,0 +1,86 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import com.google.common.collect.Lists;
+import net.minecraft.nbt.NBTBase;
+import net.minecraft.nbt.NBTTagCompound;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark the serialization of list values, as string and as NBT tag.
+ * @author rubensworks
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValueSerializationBenchmark {
+
+    @Param({"10", "1000"})
+    public int size;
+
+    private ValueTypeList.ValueList list;
+    private String serializedString;
+    private NBTBase serializedTag;
+    private NBTTagCompound serializedValue;
+
+    @Setup
+    public void setup() {
+        ValueCastMappings.load();
+        ValueTypeListProxyFactories.load();
+        List<ValueTypeString.ValueString> values = Lists.newArrayListWithExpectedSize(size);
+        for (int i = 0; i < size; i++) {
+            values.add(ValueTypeString.ValueString.of("value" + i));
+        }
+        list = ValueTypeList.ValueList.ofList(ValueTypes.STRING, values);
+        serializedString = ValueTypes.LIST.serialize(list);
+        serializedTag = ValueTypes.LIST.serializeTag(list);
+        serializedValue = ValueHelpers.serialize(list);
+    }
+
+    @Benchmark
+    public String serializeString() {
+        return ValueTypes.LIST.serialize(list);
+    }
+
+    @Benchmark
+    public ValueTypeList.ValueList deserializeString() {
+        return ValueTypes.LIST.deserialize(serializedString);
+    }
+
+    @Benchmark
+    public NBTBase serializeTag() {
+        return ValueTypes.LIST.serializeTag(list);
+    }
+
+    @Benchmark
+    public ValueTypeList.ValueList deserializeTag() {
+        return ValueTypes.LIST.deserializeTag(serializedTag);
+    }
+
+    @Benchmark
+    public NBTTagCompound serializeValue() {
+        return ValueHelpers.serialize(list);
+    }
+
+    @Benchmark
+    public IValue deserializeValue() {
+        return ValueHelpers.deserialize(serializedValue);
+    }
+
+}
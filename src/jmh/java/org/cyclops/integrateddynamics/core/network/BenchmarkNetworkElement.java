@@ -0,0 +1,115 @@
+package org.cyclops.integrateddynamics.core.network;
+
+import com.google.common.collect.ImmutableSet;
+import org.cyclops.integrateddynamics.api.network.IEventListenableNetworkElement;
+import org.cyclops.integrateddynamics.api.network.INetwork;
+import org.cyclops.integrateddynamics.api.network.INetworkElement;
+import org.cyclops.integrateddynamics.api.network.INetworkEventListener;
+import org.cyclops.integrateddynamics.api.network.event.INetworkEvent;
+
+import java.util.Set;
+
+/**
+ * A network element without a position that only counts its updates and received events.
+ * @author rubensworks
+ */
+public class BenchmarkNetworkElement extends NetworkElementBase
+        implements IEventListenableNetworkElement<BenchmarkNetworkElement>, INetworkEventListener<BenchmarkNetworkElement> {
+
+    private final int id;
+    private final int updateInterval;
+    private final Set<Class<? extends INetworkEvent>> subscribedEvents;
+    private int priority = 0;
+    private long updates = 0;
+    private long events = 0;
+
+    public BenchmarkNetworkElement(int id, int updateInterval, Set<Class<? extends INetworkEvent>> subscribedEvents) {
+        this.id = id;
+        this.updateInterval = updateInterval;
+        this.subscribedEvents = subscribedEvents;
+    }
+
+    public BenchmarkNetworkElement(int id, int updateInterval) {
+        this(id, updateInterval, ImmutableSet.<Class<? extends INetworkEvent>>of());
+    }
+
+    public long getUpdates() {
+        return updates;
+    }
+
+    public long getEvents() {
+        return events;
+    }
+
+    @Override
+    public int getUpdateInterval() {
+        return updateInterval;
+    }
+
+    @Override
+    public boolean isUpdate() {
+        return true;
+    }
+
+    @Override
+    public void update(INetwork network) {
+        updates++;
+    }
+
+    @Override
+    public void setPriority(INetwork network, int priority) {
+        this.priority = priority;
+    }
+
+    @Override
+    public int getPriority() {
+        return priority;
+    }
+
+    @Override
+    public boolean canRevalidate(INetwork network) {
+        return true;
+    }
+
+    @Override
+    public BenchmarkNetworkElement getNetworkEventListener() {
+        return this;
+    }
+
+    @Override
+    public boolean hasEventSubscriptions() {
+        return !subscribedEvents.isEmpty();
+    }
+
+    @Override
+    public Set<Class<? extends INetworkEvent>> getSubscribedEvents() {
+        return subscribedEvents;
+    }
+
+    @Override
+    public void onEvent(INetworkEvent event, BenchmarkNetworkElement networkElement) {
+        events++;
+    }
+
+    @Override
+    public int compareTo(INetworkElement o) {
+        if (o instanceof BenchmarkNetworkElement) {
+            int compPriority = -Integer.compare(this.getPriority(), o.getPriority());
+            if (compPriority != 0) {
+                return compPriority;
+            }
+            return Integer.compare(this.id, ((BenchmarkNetworkElement) o).id);
+        }
+        return this.getClass().getName().compareTo(o.getClass().getName());
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof BenchmarkNetworkElement && ((BenchmarkNetworkElement) obj).id == this.id;
+    }
+
+    @Override
+    public int hashCode() {
+        return id;
+    }
+}
@@ -0,0 +1,75 @@
+package org.cyclops.integrateddynamics.core.network;
+
+import com.google.common.collect.ImmutableSet;
+import org.cyclops.integrateddynamics.api.network.event.INetworkEvent;
+import org.cyclops.integrateddynamics.core.network.event.NetworkEvent;
+import org.cyclops.integrateddynamics.core.network.event.NetworkEventBus;
+import org.cyclops.integrateddynamics.core.network.event.UnknownPartEvent;
+import org.cyclops.integrateddynamics.core.network.event.VariableContentsUpdatedEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark posting events to a number of listeners on the network event bus.
+ * @author rubensworks
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NetworkEventBusBenchmark {
+
+    @Param({"1", "100", "10000"})
+    public int listeners;
+
+    private NetworkEventBus eventBus;
+    private INetworkEvent event;
+    private INetworkEvent coalescableEvent;
+    private INetworkEvent unlistenedEvent;
+
+    @Setup
+    public void setup() {
+        eventBus = new NetworkEventBus();
+        for (int i = 0; i < listeners; i++) {
+            BenchmarkNetworkElement element = new BenchmarkNetworkElement(i, 1,
+                    ImmutableSet.<Class<? extends INetworkEvent>>of(NetworkEvent.class, VariableContentsUpdatedEvent.class));
+            eventBus.register(element, NetworkEvent.class);
+            eventBus.register(element, VariableContentsUpdatedEvent.class);
+        }
+        event = new NetworkEvent(null);
+        coalescableEvent = new VariableContentsUpdatedEvent(null);
+        unlistenedEvent = new UnknownPartEvent(null, "unknown");
+    }
+
+    @Benchmark
+    public void post() {
+        eventBus.post(event);
+    }
+
+    @Benchmark
+    public void postCoalesced() {
+        for (int i = 0; i < 10; i++) {
+            eventBus.post(coalescableEvent);
+        }
+        eventBus.flushCoalescedEvents();
+    }
+
+    @Benchmark
+    public void postWithoutListeners() {
+        eventBus.post(unlistenedEvent);
+    }
+
+}
@@ -0,0 +1,62 @@
+package org.cyclops.integrateddynamics.core.network;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark a single network tick on a synthetic network with elements that have different update intervals.
+ * @author rubensworks
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NetworkUpdateBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    public int elements;
+
+    @Param({"1", "20"})
+    public int maxUpdateInterval;
+
+    private BenchmarkNetwork network;
+
+    @Setup
+    public void setup() {
+        network = new BenchmarkNetwork();
+        for (int i = 0; i < elements; i++) {
+            network.addNetworkElement(new BenchmarkNetworkElement(i, 1 + i % maxUpdateInterval), true);
+        }
+        network.initialize(true);
+    }
+
+    @Benchmark
+    public void update() {
+        network.update();
+    }
+
+    /**
+     * A network without path elements, which is not killed for being empty.
+     */
+    public static class BenchmarkNetwork extends Network {
+
+        @Override
+        public boolean killIfEmpty() {
+            return false;
+        }
+    }
+
+}
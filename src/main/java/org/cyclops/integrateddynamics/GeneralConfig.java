@@ -63,6 +63,12 @@ public class GeneralConfig extends DummyConfig {
     @ConfigurableProperty(category = ConfigurableTypeCategory.CORE, comment = "If cable models should be cached for rendering optimization.", isCommandable = true)
     public static boolean cacheCableModels = true;
 
+    /**
+     * The maximum number of quads that can be stored in the cable model caches.
+     */
+    @ConfigurableProperty(category = ConfigurableTypeCategory.CORE, comment = "The maximum number of quads that can be stored in the cable model caches.", minimalValue = 0, requiresMcRestart = true)
+    public static int cableModelCacheSize = 65536;
+
     /**
      * The maximum network energy transfer rate.
      */
@@ -75,6 +81,84 @@ public class GeneralConfig extends DummyConfig {
     @ConfigurableProperty(category = ConfigurableTypeCategory.MACHINE, comment = "The maximum offset in blocks a directional connector can look for its target.", minimalValue = 1)
     public static int maxDirectionalConnectorOffset = 512;
 
+    /**
+     * If block, inventory, fluid and redstone readers should only re-read their target after it has changed.
+     */
+    @ConfigurableProperty(category = ConfigurableTypeCategory.GENERAL, comment = "If block, inventory, fluid and redstone readers should only re-read their target after a neighbour block or tile entity change was signalled.", isCommandable = true)
+    public static boolean eventDrivenReaders = false;
+
+    /**
+     * The maximum number of ticks an event-driven reader can go without re-reading its target.
+     */
+    @ConfigurableProperty(category = ConfigurableTypeCategory.GENERAL, comment = "The maximum number of ticks an event-driven reader can go without re-reading its target, for targets that change without notifying their neighbours. 0 disables this.", isCommandable = true, minimalValue = 0)
+    public static int eventDrivenReadersMaxIdleTicks = 100;
+
+    /**
+     * If operator variables should be compiled into flat programs.
+     */
+    @ConfigurableProperty(category = ConfigurableTypeCategory.CORE, comment = "If operator variables should be compiled into flat programs, in which shared subexpressions are evaluated once, constant subexpressions are folded and unreachable branches are removed.", isCommandable = true)
+    public static boolean compileExpressions = true;
+
+    /**
+     * If operator variable values should be reused across ticks as long as their inputs have not changed.
+     */
+    @ConfigurableProperty(category = ConfigurableTypeCategory.CORE, comment = "If operator variable values should be reused across ticks as long as their inputs have not changed.", isCommandable = true)
+    public static boolean memoizeExpressions = true;
+
+    /**
+     * If inventory lists at the same position should share a snapshot that reuses the values of unchanged slots.
+     */
+    @ConfigurableProperty(category = ConfigurableTypeCategory.CORE, comment = "If inventory lists at the same position should share a snapshot that looks up the inventory at most once per tick and reuses the values of slots that did not change, instead of looking up the inventory and copying the stack for each slot access.", isCommandable = true)
+    public static boolean inventoryListSnapshots = true;
+
+    /**
+     * If networks should be merged and split incrementally when cables or omnidirectional connectors are added or removed.
+     */
+    @ConfigurableProperty(category = ConfigurableTypeCategory.CORE, comment = "If networks should be merged and split incrementally when cables or omnidirectional connectors are added or removed, instead of rebuilding all affected networks.", isCommandable = true)
+    public static boolean incrementalNetworkTopology = true;
+
+    /**
+     * If parts should sync changes to their client-side fields as a delta, instead of resending the full block.
+     */
+    @ConfigurableProperty(category = ConfigurableTypeCategory.CORE, comment = "If parts such as display panels should only send their changed client-side fields to players, instead of resending the full part container and re-rendering the block.", isCommandable = true)
+    public static boolean partDeltaSync = true;
+
+    /**
+     * If repeated network events of the same type should be merged and delivered once at the end of the network tick.
+     */
+    @ConfigurableProperty(category = ConfigurableTypeCategory.CORE, comment = "If repeated network events such as variable contents updates within the same tick should be merged and delivered once at the end of the network tick, instead of letting all listeners react to each of them.", isCommandable = true)
+    public static boolean coalesceNetworkEvents = true;
+
+    /**
+     * If networks of which all chunks are unloaded should not be ticked until one of their chunks is loaded again.
+     */
+    @ConfigurableProperty(category = ConfigurableTypeCategory.CORE, comment = "If networks of which all chunks are unloaded should not be ticked until one of their chunks is loaded again.", isCommandable = true)
+    public static boolean networkHibernation = true;
+
+    /**
+     * If entities in chunk sections should be cached for the duration of a tick for entity readers and operators.
+     */
+    @ConfigurableProperty(category = ConfigurableTypeCategory.CORE, comment = "If the entities in chunk sections should be cached for the duration of a tick, so that entity readers and operators looking in overlapping areas do not collect the entities of the same chunks again.", isCommandable = true)
+    public static boolean entityQueryCache = true;
+
+    /**
+     * On average one in how many randomly chosen network element updates should be timed for profiling, 0 disables profiling.
+     */
+    @ConfigurableProperty(category = ConfigurableTypeCategory.CORE, comment = "On average one in how many network element updates should be timed for the profiler that can be inspected with the profile command or JMX. The timed updates are chosen randomly. Updates and skips are always counted. 0 disables profiling.", isCommandable = true, minimalValue = 0)
+    public static int profilingSampleInterval = 64;
+
+    /**
+     * If the profiling results per part type and aspect should be exposed as JMX MBeans.
+     */
+    @ConfigurableProperty(category = ConfigurableTypeCategory.CORE, comment = "If the profiling results per part type and aspect should be exposed as JMX MBeans.", isCommandable = true)
+    public static boolean profilingJmx = true;
+
+    /**
+     * The maximum number of source elements that lazily evaluated lists such as filtered lists may traverse.
+     */
+    @ConfigurableProperty(category = ConfigurableTypeCategory.CORE, comment = "The maximum number of source elements that lazily evaluated lists such as filtered lists may traverse before their evaluation fails. This protects against operations on infinite lists that would never end.", isCommandable = true, minimalValue = 1)
+    public static int lazyListMaxPulls = 1000000;
+
     /**
      * The NBT tags that are not allowed to be read by displaying NBT tags or performing operations on them.
      */
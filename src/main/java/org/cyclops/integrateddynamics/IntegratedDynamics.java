@@ -47,8 +47,10 @@ import org.cyclops.integrateddynamics.client.render.valuetype.ValueTypeWorldRend
 import org.cyclops.integrateddynamics.client.render.valuetype.ValueTypeWorldRenderers;
 import org.cyclops.integrateddynamics.command.CommandCrash;
 import org.cyclops.integrateddynamics.command.CommandNetworkDiagnostics;
+import org.cyclops.integrateddynamics.command.CommandProfile;
 import org.cyclops.integrateddynamics.command.CommandTest;
 import org.cyclops.integrateddynamics.core.NoteBlockEventReceiver;
+import org.cyclops.integrateddynamics.core.ChunkHandler;
 import org.cyclops.integrateddynamics.core.TickHandler;
 import org.cyclops.integrateddynamics.core.client.gui.ExtendedGuiHandler;
 import org.cyclops.integrateddynamics.core.client.model.VariableModelProviderRegistry;
@@ -58,6 +60,7 @@ import org.cyclops.integrateddynamics.core.evaluate.ProxyVariableFacadeHandler;
 import org.cyclops.integrateddynamics.core.evaluate.operator.OperatorRegistry;
 import org.cyclops.integrateddynamics.core.evaluate.operator.Operators;
 import org.cyclops.integrateddynamics.core.evaluate.variable.*;
+import org.cyclops.integrateddynamics.core.helper.EntityQueryCache;
 import org.cyclops.integrateddynamics.core.item.VariableFacadeHandlerRegistry;
 import org.cyclops.integrateddynamics.core.logicprogrammer.LogicProgrammerElementTypeRegistry;
 import org.cyclops.integrateddynamics.core.logicprogrammer.LogicProgrammerElementTypes;
@@ -148,6 +151,7 @@ public class IntegratedDynamics extends ModBaseVersionable {
         }
         commands.put(CommandNetworkDiagnostics.NAME, new CommandNetworkDiagnostics(this));
         commands.put(CommandCrash.NAME, new CommandCrash(this));
+        commands.put(CommandProfile.NAME, new CommandProfile(this));
         return new CommandMod(this, commands);
     }
 
@@ -202,6 +206,8 @@ public class IntegratedDynamics extends ModBaseVersionable {
                 OnTheDynamicsOfIntegrationBook.getInstance(), "/assets/" + Reference.MOD_ID + "/info/on_the_dynamics_of_integration.xml");
 
         MinecraftForge.EVENT_BUS.register(TickHandler.getInstance());
+        MinecraftForge.EVENT_BUS.register(ChunkHandler.getInstance());
+        MinecraftForge.EVENT_BUS.register(EntityQueryCache.getInstance());
         MinecraftForge.EVENT_BUS.register(NoteBlockEventReceiver.getInstance());
         MinecraftForge.EVENT_BUS.register(new NetworkCapabilityConstructors());
         if (MinecraftHelpers.isClientSide()) {
@@ -15,4 +15,45 @@ public interface IVariableContainer {
      */
     public Map<Integer, IVariableFacade> getVariableCache();
 
+    /**
+     * Add a listener that will be called when variable facades are added to or removed from the variable cache.
+     * @param listener The listener.
+     * @return If this container supports listeners,
+     *         if not, changes to the variable cache must be detected in another way.
+     */
+    public default boolean addListener(IListener listener) {
+        return false;
+    }
+
+    /**
+     * Remove a listener.
+     * @param listener The listener.
+     */
+    public default void removeListener(IListener listener) {
+
+    }
+
+    /**
+     * Listener for changes in the variable cache of a {@link IVariableContainer}.
+     */
+    public static interface IListener {
+
+        /**
+         * Called after a variable facade was added.
+         * @param container The container.
+         * @param variableId The variable id.
+         * @param variableFacade The added variable facade.
+         */
+        public void onVariableAdded(IVariableContainer container, int variableId, IVariableFacade variableFacade);
+
+        /**
+         * Called after a variable facade was removed.
+         * @param container The container.
+         * @param variableId The variable id.
+         * @param variableFacade The removed variable facade.
+         */
+        public void onVariableRemoved(IVariableContainer container, int variableId, IVariableFacade variableFacade);
+
+    }
+
 }
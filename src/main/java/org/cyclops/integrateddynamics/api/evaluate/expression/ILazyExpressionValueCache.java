@@ -13,4 +13,12 @@ public interface ILazyExpressionValueCache {
     public boolean hasValue(int id);
     public IValue getValue(int id);
 
+    /**
+     * @return A counter that is increased each time this cache is cleared,
+     *         or -1 if this cache does not keep track of this.
+     */
+    public default long getEpoch() {
+        return -1;
+    }
+
 }
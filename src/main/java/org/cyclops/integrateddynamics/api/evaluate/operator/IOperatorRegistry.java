@@ -1,5 +1,6 @@
 package org.cyclops.integrateddynamics.api.evaluate.operator;
 
+import net.minecraft.nbt.NBTBase;
 import org.cyclops.cyclopscore.init.IRegistry;
 import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
@@ -76,4 +77,20 @@ public interface IOperatorRegistry extends IRegistry, IVariableFacadeHandler<IOp
      */
     public IOperator deserialize(String value) throws EvaluationException;
 
+    /**
+     * Serialize the given operator to an NBT tag.
+     * @param value The operator to serialize.
+     * @return The serialized operator tag.
+     */
+    public NBTBase serializeTag(IOperator value);
+
+    /**
+     * Deserialize the given operator tag.
+     * This also accepts string tags that contain an operator serialized with {@link #serialize(IOperator)}.
+     * @param tag The operator tag to deserialize.
+     * @return The deserialized operator.
+     * @throws EvaluationException If an error occurs while deserializing.
+     */
+    public IOperator deserializeTag(NBTBase tag) throws EvaluationException;
+
 }
@@ -1,5 +1,7 @@
 package org.cyclops.integrateddynamics.api.evaluate.operator;
 
+import net.minecraft.nbt.NBTBase;
+import net.minecraft.nbt.NBTTagString;
 import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
 
 /**
@@ -35,4 +37,26 @@ public interface IOperatorSerializer<O extends IOperator> {
      */
     public O deserialize(String value) throws EvaluationException;
 
+    /**
+     * Serialize the given operator to an NBT tag.
+     * @param operator The operator to serialize.
+     * @return The serialized operator tag.
+     */
+    public default NBTBase serializeTag(O operator) {
+        return new NBTTagString(serialize(operator));
+    }
+
+    /**
+     * Deserialize the given operator tag.
+     * @param tag The operator tag to deserialize.
+     * @return The deserialized operator, null if deserialization failed.
+     * @throws EvaluationException If something goes wrong while deserializing
+     */
+    public default O deserializeTag(NBTBase tag) throws EvaluationException {
+        if (tag instanceof NBTTagString) {
+            return deserialize(((NBTTagString) tag).getString());
+        }
+        throw new EvaluationException(String.format("Could not deserialize the operator tag '%s'.", tag));
+    }
+
 }
@@ -1,6 +1,8 @@
 package org.cyclops.integrateddynamics.api.evaluate.variable;
 
 import com.google.gson.JsonObject;
+import net.minecraft.nbt.NBTBase;
+import net.minecraft.nbt.NBTTagString;
 import org.cyclops.cyclopscore.helper.L10NHelpers;
 import org.cyclops.integrateddynamics.api.advancement.criterion.ValuePredicate;
 import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
@@ -95,6 +97,31 @@ public interface IValueType<V extends IValue> {
      */
     public V deserialize(String value);
 
+    /**
+     * Serialize the given value to an NBT tag.
+     * By default, this wraps the string serialization of the value,
+     * value types that have a native NBT representation should override this.
+     * @param value The value to serialize.
+     * @return The serialized value.
+     */
+    public default NBTBase serializeTag(V value) {
+        return new NBTTagString(serialize(value));
+    }
+
+    /**
+     * Deserialize the given NBT tag.
+     * String tags are always deserialized using {@link #deserialize(String)},
+     * so that values that were stored in the string format can still be read.
+     * @param tag The tag to deserialize, can be null.
+     * @return The deserialized value.
+     */
+    public default V deserializeTag(NBTBase tag) {
+        if (tag instanceof NBTTagString) {
+            return deserialize(((NBTTagString) tag).getString());
+        }
+        return getDefault();
+    }
+
     /**
      * Materialize the given value so that it can exist without any external references.
      * @param value The value to materialize.
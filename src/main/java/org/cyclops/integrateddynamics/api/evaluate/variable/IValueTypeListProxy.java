@@ -23,6 +23,41 @@ public interface IValueTypeListProxy<T extends IValueType<V>, V extends IValue>
      */
     public V get(int index) throws EvaluationException;
 
+    /**
+     * Check if the given index exists in this list.
+     * Lazy lists can override this to avoid determining the full list length.
+     * @param index The index.
+     * @return If the index is within the bounds of this list.
+     * @throws EvaluationException If something went wrong wile getting an element.
+     */
+    public default boolean hasIndex(int index) throws EvaluationException {
+        return index >= 0 && index < getLength();
+    }
+
+    /**
+     * @return If this list has no elements.
+     * @throws EvaluationException If something went wrong wile getting an element.
+     */
+    public default boolean isEmpty() throws EvaluationException {
+        return !hasIndex(0);
+    }
+
+    /**
+     * Check if this list contains the given value.
+     * @param value The value to look for.
+     * @return If an element of this list equals the given value.
+     * @throws EvaluationException If something went wrong wile getting an element.
+     */
+    public default boolean contains(IValue value) throws EvaluationException {
+        for (int i = 0; hasIndex(i); i++) {
+            V element = get(i);
+            if (element != null && element.equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * @return The list element value type.
      */
@@ -1,5 +1,7 @@
 package org.cyclops.integrateddynamics.api.evaluate.variable;
 
+import net.minecraft.nbt.NBTBase;
+import net.minecraft.nbt.NBTTagString;
 import org.cyclops.cyclopscore.init.IRegistry;
 
 /**
@@ -51,6 +53,29 @@ public interface IValueTypeListProxyFactoryTypeRegistry extends IRegistry {
      */
     public <T extends IValueType<V>, V extends IValue, P extends IValueTypeListProxy<T, V>> P deserialize(String value) throws SerializationException;
 
+    /**
+     * Serialize the given list proxy to an NBT tag.
+     * @param proxy The proxy to serialize.
+     * @param <T> The list element type value type.
+     * @param <V> The list element type.
+     * @param <P> The proxy type.
+     * @return The serialized tag.
+     * @throws SerializationException If something goes wrong while serializing.
+     */
+    public <T extends IValueType<V>, V extends IValue, P extends IValueTypeListProxy<T, V>> NBTBase serializeTag(P proxy) throws SerializationException;
+
+    /**
+     * Deserialize the given NBT tag to a list proxy instance.
+     * This also accepts string tags that contain a list proxy serialized with {@link #serialize(IValueTypeListProxy)}.
+     * @param tag The serialized list proxy tag.
+     * @param <T> The list element type value type.
+     * @param <V> The list element type.
+     * @param <P> The proxy type.
+     * @return The deserialized list proxy.
+     * @throws SerializationException If something goes wrong while serializing.
+     */
+    public <T extends IValueType<V>, V extends IValue, P extends IValueTypeListProxy<T, V>> P deserializeTag(NBTBase tag) throws SerializationException;
+
     /**
      * Factory for a list proxy.
      * @param <T> The list element type value type.
@@ -80,6 +105,29 @@ public interface IValueTypeListProxyFactoryTypeRegistry extends IRegistry {
          */
         public P deserialize(String value) throws SerializationException;
 
+        /**
+         * Serialize the given value to an NBT tag.
+         * @param value The value to serialize.
+         * @return The serialized tag.
+         * @throws SerializationException If something goes wrong while serializing.
+         */
+        public default NBTBase serializeTag(P value) throws SerializationException {
+            return new NBTTagString(serialize(value));
+        }
+
+        /**
+         * Deserialize the given NBT tag.
+         * @param tag The tag to deserialize.
+         * @return The deserialized value.
+         * @throws SerializationException If something goes wrong while deserializing.
+         */
+        public default P deserializeTag(NBTBase tag) throws SerializationException {
+            if (tag instanceof NBTTagString) {
+                return deserialize(((NBTTagString) tag).getString());
+            }
+            throw new SerializationException(String.format("Could not deserialize the list proxy tag '%s'.", tag));
+        }
+
     }
 
     /**
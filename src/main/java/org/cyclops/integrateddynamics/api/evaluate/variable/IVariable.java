@@ -8,6 +8,11 @@ import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
  */
 public interface IVariable<V extends IValue> {
 
+    /**
+     * The version of variables that do not keep track of changes to their value.
+     */
+    public static final long VERSION_UNKNOWN = -1;
+
     /**
      * @return The type of value this variable provides.
      */
@@ -19,4 +24,13 @@ public interface IVariable<V extends IValue> {
      */
     public V getValue() throws EvaluationException;
 
+    /**
+     * A version that increases each time the value of this variable may have changed.
+     * If the version of a variable remained the same, its value can be assumed to be the same as well.
+     * @return The current version of this variable, or {@link #VERSION_UNKNOWN} if it does not track versions.
+     */
+    public default long getVersion() {
+        return VERSION_UNKNOWN;
+    }
+
 }
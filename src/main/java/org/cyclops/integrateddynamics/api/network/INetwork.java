@@ -1,5 +1,6 @@
 package org.cyclops.integrateddynamics.api.network;
 
+import net.minecraft.util.math.ChunkPos;
 import net.minecraftforge.common.capabilities.Capability;
 import org.cyclops.cyclopscore.persist.nbt.INBTSerializable;
 import org.cyclops.integrateddynamics.api.network.event.INetworkEventBus;
@@ -119,4 +120,22 @@ public interface INetwork extends IFullNetworkListener, INBTSerializable {
      */
     public void revalidateElement(INetworkElement element);
 
+    /**
+     * A network is hibernating when all chunks it spans are unloaded, in which case it should not be updated.
+     * @return If this network is hibernating.
+     */
+    public default boolean isHibernating() {
+        return false;
+    }
+
+    /**
+     * Called when a chunk has been loaded or is being unloaded.
+     * @param dimension The dimension id of the chunk.
+     * @param chunk The chunk position.
+     * @param loaded If the chunk has been loaded, otherwise it is being unloaded.
+     */
+    public default void onChunkChanged(int dimension, ChunkPos chunk, boolean loaded) {
+
+    }
+
 }
@@ -86,6 +86,11 @@ public interface IPartNetwork extends ILazyExpressionValueCache {
      */
     public IVariableFacade getVariableFacade(int variableId);
 
+    /**
+     * @return A counter that changes each time variable facades become available or unavailable in this network.
+     */
+    public long getVariableFacadesVersion();
+
     /**
      * Add the position of a variable container.
      * @param dimPos The variable container position.
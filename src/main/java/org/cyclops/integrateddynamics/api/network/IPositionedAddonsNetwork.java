@@ -16,6 +16,26 @@ public interface IPositionedAddonsNetwork {
      */
     public Set<PrioritizedPartPos> getPositions();
 
+    /**
+     * Get the stored positions for distributing an operation over them.
+     * Positions are sorted by priority, but positions with the same priority start at a different position
+     * after each call to {@link #rotatePrioritizedPositions()}, so that the load is spread evenly over them.
+     * By default, the positions are returned in the same order as {@link #getPositions()}.
+     * @return The stored positions.
+     */
+    public default Iterable<PrioritizedPartPos> getPrioritizedPositions() {
+        return getPositions();
+    }
+
+    /**
+     * Let positions with the same priority start at the next position in {@link #getPrioritizedPositions()}.
+     * This should only be called after an actual operation, not after a simulated one,
+     * so that a simulation and its subsequent execution visit the positions in the same order.
+     */
+    public default void rotatePrioritizedPositions() {
+
+    }
+
     /**
      * Add the given position.
      * @param pos The position.
@@ -0,0 +1,13 @@
+package org.cyclops.integrateddynamics.api.network.event;
+
+import org.cyclops.integrateddynamics.api.network.INetwork;
+
+/**
+ * An event posted in the {@link INetwork} event bus of which multiple posts within the same tick may be merged.
+ * Listeners of such events must not depend on the contents of the event beyond its type and network,
+ * as only the first posted event will be delivered at the end of the tick.
+ * @author rubensworks
+ */
+public interface ICoalescableNetworkEvent extends INetworkEvent {
+
+}
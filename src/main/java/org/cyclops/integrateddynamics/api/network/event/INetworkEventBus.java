@@ -44,4 +44,15 @@ public interface INetworkEventBus {
      */
     public boolean postCancelable(ICancelableNetworkEvent event);
 
+    /**
+     * Deliver all {@link ICoalescableNetworkEvent}s that were posted since the last call.
+     * This should be called at the end of each network tick.
+     */
+    public void flushCoalescedEvents();
+
+    /**
+     * Drop all {@link ICoalescableNetworkEvent}s that were posted since the last flush, without delivering them.
+     */
+    public void clearCoalescedEvents();
+
 }
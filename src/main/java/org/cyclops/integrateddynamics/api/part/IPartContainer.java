@@ -97,6 +97,15 @@ public interface IPartContainer extends ICapabilitySerializable<NBTTagCompound>
      */
     public IPartState getPartState(EnumFacing side) throws PartStateException;
 
+    /**
+     * Send the changed client-side fields of the part at the given side to all players watching this container.
+     * By default, nothing is sent, and the part is only synced with the next full update of this container.
+     * @param side The side.
+     */
+    public default void syncPartToClients(EnumFacing side) {
+
+    }
+
     /**
      * Get the part side the player is watching.
      * This is used to determine the part the player is looking at.
@@ -77,6 +77,31 @@ public interface IPartState<P extends IPartType> {
      */
     public boolean isUpdateAndReset();
 
+    /**
+     * Check if the client-side fields of this part state should be synced and reset the flag.
+     * @return If the fields from {@link #writeClientSyncNBT(NBTTagCompound)} have changed since the last time.
+     */
+    public default boolean isSyncUpdateAndReset() {
+        return false;
+    }
+
+    /**
+     * Write the fields of this state that the client(s) require, such as for rendering, to NBT.
+     * These are synced separately from the full state when only they have changed.
+     * @param tag The tag to write to.
+     */
+    public default void writeClientSyncNBT(NBTTagCompound tag) {
+
+    }
+
+    /**
+     * Read the fields that were written by {@link #writeClientSyncNBT(NBTTagCompound)}.
+     * @param tag The tag to read from.
+     */
+    public default void readClientSyncNBT(NBTTagCompound tag) {
+
+    }
+
     /**
      * Get the properties for the given aspect.
      * This will only retrieve the already saved properties, so this could be null if not set before.
@@ -17,4 +17,12 @@ public interface IAspectRead<V extends IValue, T extends IValueType<V>> extends
      */
     public IAspectVariable<V> createNewVariable(PartTarget target);
 
+    /**
+     * @return If the variables of this aspect only have to be updated after their target has changed,
+     *         as signalled by {@link IAspectVariable#onTargetChanged()}.
+     */
+    public default boolean isEventDriven() {
+        return false;
+    }
+
 }
@@ -26,6 +26,14 @@ public interface IAspectVariable<V extends IValue> extends IVariable<V> {
      */
     public void update();
 
+    /**
+     * Called when the target of this variable may have changed,
+     * for example when a neighbouring block or tile entity was updated.
+     */
+    public default void onTargetChanged() {
+
+    }
+
     /**
      * @return The referenced aspect.
      */
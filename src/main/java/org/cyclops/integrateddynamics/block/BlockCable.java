@@ -38,6 +38,7 @@ import org.cyclops.cyclopscore.datastructure.EnumFacingMap;
 import org.cyclops.cyclopscore.helper.MinecraftHelpers;
 import org.cyclops.cyclopscore.helper.RenderHelpers;
 import org.cyclops.cyclopscore.helper.TileHelpers;
+import org.cyclops.integrateddynamics.GeneralConfig;
 import org.cyclops.integrateddynamics.api.block.IDynamicLight;
 import org.cyclops.integrateddynamics.api.block.IDynamicRedstone;
 import org.cyclops.integrateddynamics.api.part.IPartContainer;
@@ -288,6 +289,16 @@ public class BlockCable extends ConfigurableBlockContainer implements ICollidabl
         NetworkHelpers.onElementProviderBlockNeighborChange(world, pos, neighborBlock);
     }
 
+    @Override
+    public void onNeighborChange(IBlockAccess world, BlockPos pos, BlockPos neighbor) {
+        super.onNeighborChange(world, pos, neighbor);
+        // Tile entity changes, such as inventory contents, are signalled via comparator updates.
+        // These are only relevant for event-driven readers.
+        if (GeneralConfig.eventDrivenReaders && world instanceof World) {
+            NetworkHelpers.onElementProviderBlockNeighborChange((World) world, pos, world.getBlockState(neighbor).getBlock());
+        }
+    }
+
     @Override
     public void updateTick(World world, BlockPos pos, IBlockState state, Random rand) {
         super.updateTick(world, pos, state, rand);
@@ -4,11 +4,13 @@ import com.google.common.base.Function;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
 import net.minecraftforge.common.capabilities.Capability;
 import org.apache.logging.log4j.Level;
 import org.cyclops.cyclopscore.datastructure.DimPos;
@@ -25,6 +27,7 @@ import org.cyclops.integrateddynamics.api.part.IPartState;
 import org.cyclops.integrateddynamics.api.part.IPartType;
 import org.cyclops.integrateddynamics.core.helper.NetworkHelpers;
 import org.cyclops.integrateddynamics.core.helper.PartHelpers;
+import org.cyclops.integrateddynamics.network.packet.PartStateSyncPacket;
 
 import javax.annotation.Nullable;
 import java.util.List;
@@ -38,17 +41,45 @@ import java.util.Objects;
 public abstract class PartContainerDefault implements IPartContainer {
 
     protected final EnumFacingMap<PartHelpers.PartStateHolder<?, ?>> partData = EnumFacingMap.newMap();
+    private final EnumFacingMap<NBTTagCompound> lastClientSyncTags = EnumFacingMap.newMap();
 
     @Override
     public void update() {
         if(!MinecraftHelpers.isClientSide()) {
             // Loop over all part states to check their dirtiness
-            for (PartHelpers.PartStateHolder<?, ?> partStateHolder : partData.values()) {
-                if (partStateHolder.getState().isDirtyAndReset()) {
+            for (Map.Entry<EnumFacing, PartHelpers.PartStateHolder<?, ?>> entry : partData.entrySet()) {
+                IPartState<?> partState = entry.getValue().getState();
+                if (partState.isDirtyAndReset()) {
                     markDirty();
                 }
-                if (partStateHolder.getState().isUpdateAndReset()) {
+                boolean update = partState.isUpdateAndReset();
+                boolean syncUpdate = partState.isSyncUpdateAndReset();
+                if (update) {
                     sendUpdate();
+                } else if (syncUpdate) {
+                    syncPartToClients(entry.getKey());
+                }
+            }
+        }
+    }
+
+    @Override
+    public void syncPartToClients(EnumFacing side) {
+        World world = getWorld();
+        if (!(world instanceof WorldServer) || !hasPart(side)) {
+            return;
+        }
+        NBTTagCompound tag = new NBTTagCompound();
+        getPartState(side).writeClientSyncNBT(tag);
+        NBTTagCompound delta = PartHelpers.createNbtDelta(lastClientSyncTags.get(side), tag);
+        lastClientSyncTags.put(side, tag);
+        if (delta != null) {
+            // Only send to the players that would also receive block updates for this position.
+            BlockPos pos = getPos();
+            PartStateSyncPacket packet = new PartStateSyncPacket(pos, side, delta);
+            for (EntityPlayer player : world.playerEntities) {
+                if (((WorldServer) world).getPlayerChunkMap().isPlayerWatchingChunk((EntityPlayerMP) player, pos.getX() >> 4, pos.getZ() >> 4)) {
+                    IntegratedDynamics._instance.getPacketHandler().sendToPlayer(packet, (EntityPlayerMP) player);
                 }
             }
         }
@@ -87,6 +118,7 @@ public abstract class PartContainerDefault implements IPartContainer {
                     @Override
                     public void onSet(PartHelpers.PartStateHolder<?, ?> partStateHolder) {
                         partData.put(side, PartHelpers.PartStateHolder.of(part, partState));
+                        lastClientSyncTags.remove(side);
                         sendUpdate();
                     }
                 });
@@ -137,6 +169,7 @@ public abstract class PartContainerDefault implements IPartContainer {
 
                 // Finally remove the part data from this part.
                 IPartType ret = partData.remove(side).getPart();
+                lastClientSyncTags.remove(side);
 
                 networkElement.onPostRemoved(getNetwork());
 
@@ -153,6 +186,7 @@ public abstract class PartContainerDefault implements IPartContainer {
             }
             // Finally remove the part data from this part.
             IPartType ret = partData.remove(side).getPart();
+            lastClientSyncTags.remove(side);
             onPartsChanged();
             return ret;
         }
@@ -164,6 +198,7 @@ public abstract class PartContainerDefault implements IPartContainer {
             throw new PartStateException(getPosition(), side);
         }
         partData.put(side, PartHelpers.PartStateHolder.of(getPart(side), partState));
+        lastClientSyncTags.remove(side);
         onPartsChanged();
     }
 
@@ -230,6 +265,7 @@ public abstract class PartContainerDefault implements IPartContainer {
         synchronized (this.partData) {
             PartHelpers.readPartsFromNBT(getNetwork(), getPos(), tag, this.partData, getWorld());
         }
+        this.lastClientSyncTags.clear();
     }
 
     protected void onPartsChanged() {
@@ -261,6 +297,7 @@ public abstract class PartContainerDefault implements IPartContainer {
     public void setPartData(Map<EnumFacing, PartHelpers.PartStateHolder<?, ?>> partData) {
         this.partData.clear();
         this.partData.putAll(partData);
+        this.lastClientSyncTags.clear();
     }
 
     /**
@@ -269,6 +306,7 @@ public abstract class PartContainerDefault implements IPartContainer {
      */
     public void silentResetPartData() {
         this.partData.clear();
+        this.lastClientSyncTags.clear();
     }
 
 }
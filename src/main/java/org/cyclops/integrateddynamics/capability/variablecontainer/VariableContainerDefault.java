@@ -1,21 +1,122 @@
 package org.cyclops.integrateddynamics.capability.variablecontainer;
 
+import com.google.common.collect.ForwardingMap;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import org.cyclops.integrateddynamics.api.block.IVariableContainer;
 import org.cyclops.integrateddynamics.api.item.IVariableFacade;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Default implementation of {@link IVariableContainer}.
+ * Listeners are notified of all modifications of the variable cache.
  * @author rubensworks
  */
 public class VariableContainerDefault implements IVariableContainer {
 
-    private final Map<Integer, IVariableFacade> variableCache = Maps.newHashMap();
+    private final List<IListener> listeners = Lists.newArrayList();
+    private final Map<Integer, IVariableFacade> variableCache = new ListenableVariableCache(Maps.newHashMap());
 
     @Override
     public Map<Integer, IVariableFacade> getVariableCache() {
         return this.variableCache;
     }
+
+    @Override
+    public boolean addListener(IListener listener) {
+        if (!listeners.contains(listener)) {
+            listeners.add(listener);
+        }
+        return true;
+    }
+
+    @Override
+    public void removeListener(IListener listener) {
+        listeners.remove(listener);
+    }
+
+    protected void onVariableAdded(int variableId, IVariableFacade variableFacade) {
+        for (IListener listener : Lists.newArrayList(listeners)) {
+            listener.onVariableAdded(this, variableId, variableFacade);
+        }
+    }
+
+    protected void onVariableRemoved(int variableId, IVariableFacade variableFacade) {
+        for (IListener listener : Lists.newArrayList(listeners)) {
+            listener.onVariableRemoved(this, variableId, variableFacade);
+        }
+    }
+
+    /**
+     * A map that notifies the listeners of this container of all modifications.
+     * Its views are not modifiable.
+     */
+    protected class ListenableVariableCache extends ForwardingMap<Integer, IVariableFacade> {
+
+        private final Map<Integer, IVariableFacade> delegate;
+
+        public ListenableVariableCache(Map<Integer, IVariableFacade> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        protected Map<Integer, IVariableFacade> delegate() {
+            return delegate;
+        }
+
+        @Override
+        public IVariableFacade put(Integer key, IVariableFacade value) {
+            IVariableFacade previous = delegate.put(key, value);
+            if (previous != value) {
+                if (previous != null) {
+                    onVariableRemoved(key, previous);
+                }
+                onVariableAdded(key, value);
+            }
+            return previous;
+        }
+
+        @Override
+        public void putAll(Map<? extends Integer, ? extends IVariableFacade> map) {
+            standardPutAll(map);
+        }
+
+        @Override
+        public IVariableFacade remove(Object key) {
+            IVariableFacade previous = delegate.remove(key);
+            if (previous != null) {
+                onVariableRemoved((Integer) key, previous);
+            }
+            return previous;
+        }
+
+        @Override
+        public void clear() {
+            List<Map.Entry<Integer, IVariableFacade>> entries = Lists.newArrayList(delegate.entrySet());
+            delegate.clear();
+            for (Map.Entry<Integer, IVariableFacade> entry : entries) {
+                onVariableRemoved(entry.getKey(), entry.getValue());
+            }
+        }
+
+        @Override
+        public Set<Integer> keySet() {
+            return Collections.unmodifiableSet(delegate.keySet());
+        }
+
+        @Override
+        public Collection<IVariableFacade> values() {
+            return Collections.unmodifiableCollection(delegate.values());
+        }
+
+        @Override
+        public Set<Entry<Integer, IVariableFacade>> entrySet() {
+            return Collections.unmodifiableSet(delegate.entrySet());
+        }
+    }
 }
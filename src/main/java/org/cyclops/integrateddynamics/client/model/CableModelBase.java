@@ -3,9 +3,12 @@ package org.cyclops.integrateddynamics.client.model;
 import com.google.common.base.Optional;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import com.google.common.primitives.Ints;
+import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.client.renderer.block.model.BakedQuad;
 import net.minecraft.client.renderer.block.model.IBakedModel;
@@ -34,15 +37,32 @@ import org.cyclops.integrateddynamics.block.BlockCable;
 import javax.vecmath.Matrix4f;
 import javax.vecmath.Vector3f;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * A base dynamic model for cables.
+ *
+ * Quads are cached in a size-bounded cache by a bit-packed key of the cable state,
+ * except for models with rendered parts, which are cached by their full render state.
  * @author rubensworks
  */
 public abstract class CableModelBase extends DelegatingDynamicItemAndBlockModel {
 
-    private static final Cache<Triple<IRenderState, EnumFacing, BlockRenderLayer>, List<BakedQuad>> CACHE_QUADS = CacheBuilder.newBuilder().expireAfterAccess(1, TimeUnit.MINUTES).build();
+    private static final Cache<Long, List<BakedQuad>> CACHE_QUADS_STATEKEY = CacheBuilder.newBuilder()
+            .maximumWeight(GeneralConfig.cableModelCacheSize)
+            .weigher((Long key, List<BakedQuad> quads) -> quads.size() + 1)
+            .build();
+    private static final Cache<Triple<IRenderState, EnumFacing, BlockRenderLayer>, List<BakedQuad>> CACHE_QUADS = CacheBuilder.newBuilder()
+            .maximumWeight(GeneralConfig.cableModelCacheSize)
+            .weigher((Triple<IRenderState, EnumFacing, BlockRenderLayer> key, List<BakedQuad> quads) -> quads.size() + 1)
+            .expireAfterAccess(1, TimeUnit.MINUTES)
+            .build();
+    private static final Map<PartRenderPosition, Integer> PARTRENDERPOSITION_IDS = Maps.newConcurrentMap();
+    private static final AtomicInteger PARTRENDERPOSITION_ID_COUNTER = new AtomicInteger();
+    private static final int PARTRENDERPOSITION_BITS = 5;
+    private static final int PARTRENDERPOSITION_MAX_ID = (1 << PARTRENDERPOSITION_BITS) - 1;
 
     private static final int RADIUS = 4;
     private static final int TEXTURE_SIZE = 16;
@@ -180,15 +200,69 @@ public abstract class CableModelBase extends DelegatingDynamicItemAndBlockModel
     protected abstract IBakedModel getPartModel(EnumFacing side);
     protected abstract IRenderState getRenderState();
 
+    protected static int getPartRenderPositionId(PartRenderPosition partRenderPosition) {
+        if (partRenderPosition == PartRenderPosition.NONE) {
+            return 0;
+        }
+        Integer id = PARTRENDERPOSITION_IDS.get(partRenderPosition);
+        if (id == null) {
+            id = PARTRENDERPOSITION_IDS.computeIfAbsent(partRenderPosition, key -> PARTRENDERPOSITION_ID_COUNTER.incrementAndGet());
+        }
+        return id > PARTRENDERPOSITION_MAX_ID ? -1 : id;
+    }
+
+    /**
+     * Pack everything that determines the quads of this model into a single key,
+     * which is only possible if no parts have to be rendered, as their quads depend on their part state.
+     *
+     * From the lowest to the highest bits, the key contains the facing (3 bits), render layer (3 bits),
+     * if this is a real cable (1 bit), if parts should be rendered (1 bit), the connections (6 bits),
+     * the part render position ids (5 bits per side) and the facade state id (17 bits).
+     * @return The key, or -1 if this model can not be represented by a key.
+     */
+    protected long getStateKey() {
+        BlockRenderLayer layer = MinecraftForgeClient.getRenderLayer();
+        boolean renderParts = shouldRenderParts();
+        long key = this.facing == null ? 0 : this.facing.ordinal() + 1;
+        key |= (long) (layer == null ? 0 : layer.ordinal() + 1) << 3;
+        key |= (isRealCable() ? 1L : 0L) << 6;
+        key |= (renderParts ? 1L : 0L) << 7;
+        for (EnumFacing side : EnumFacing.VALUES) {
+            if (isConnected(side)) {
+                key |= 1L << (8 + side.ordinal());
+            }
+            PartRenderPosition partRenderPosition = getPartRenderPosition(side);
+            if (partRenderPosition != PartRenderPosition.NONE && renderParts) {
+                return -1;
+            }
+            int partRenderPositionId = getPartRenderPositionId(partRenderPosition);
+            if (partRenderPositionId < 0) {
+                return -1;
+            }
+            key |= (long) partRenderPositionId << (14 + side.ordinal() * PARTRENDERPOSITION_BITS);
+        }
+        Optional<IBlockState> facade = getFacade();
+        if (facade.isPresent()) {
+            key |= (1L | ((long) (Block.getStateId(facade.get()) & 0xFFFF) << 1)) << 44;
+        }
+        return key;
+    }
+
     @Override
     public List<BakedQuad> getGeneralQuads() {
+        long stateKey = -1;
         Triple<IRenderState, EnumFacing, BlockRenderLayer> cacheKey = null;
         List<BakedQuad> cachedQuads = null;
         if (GeneralConfig.cacheCableModels) {
             IRenderState renderState = getRenderState();
             if (renderState != null) {
-                cacheKey = Triple.of(renderState, this.facing, MinecraftForgeClient.getRenderLayer());
-                cachedQuads = CACHE_QUADS.getIfPresent(cacheKey);
+                stateKey = getStateKey();
+                if (stateKey >= 0) {
+                    cachedQuads = CACHE_QUADS_STATEKEY.getIfPresent(stateKey);
+                } else {
+                    cacheKey = Triple.of(renderState, this.facing, MinecraftForgeClient.getRenderLayer());
+                    cachedQuads = CACHE_QUADS.getIfPresent(cacheKey);
+                }
             }
         }
         if (cachedQuads == null) {
@@ -261,8 +335,10 @@ public abstract class CableModelBase extends DelegatingDynamicItemAndBlockModel
                 addBakedQuad(ret, MIN, MAX, MIN, MAX, 1, texture, EnumFacing.EAST);
                 addBakedQuad(ret, MIN, MAX, MIN, MAX, 1, texture, EnumFacing.WEST);
             }
-            cachedQuads = ret;
-            if (cacheKey != null) {
+            cachedQuads = ImmutableList.copyOf(ret);
+            if (stateKey >= 0) {
+                CACHE_QUADS_STATEKEY.put(stateKey, cachedQuads);
+            } else if (cacheKey != null) {
                 CACHE_QUADS.put(cacheKey, cachedQuads);
             }
         }
@@ -0,0 +1,102 @@
+package org.cyclops.integrateddynamics.client.render.valuetype;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import net.minecraft.client.gui.FontRenderer;
+import net.minecraft.client.renderer.GlStateManager;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+import org.cyclops.cyclopscore.helper.Helpers;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * The scaled layout of lines of text that fit within a display panel.
+ *
+ * Layouts are cached by the identity of the value they were created for.
+ * Since display values are only replaced when a new value is synced to the client,
+ * the lines, their widths and the scale only have to be calculated again after a value change.
+ * Layouts of values that are not rendered anymore, for example because the panel is out of range, are evicted.
+ * @author rubensworks
+ */
+@SideOnly(Side.CLIENT)
+public class CachedTextLayout {
+
+    private static final float MAX = 12.5F;
+    private static final float MARGIN_FACTOR = 1.1F;
+
+    private static final Cache<IValue, CachedTextLayout> CACHE = CacheBuilder.newBuilder()
+            .weakKeys()
+            .maximumSize(4096)
+            .expireAfterAccess(30, TimeUnit.SECONDS)
+            .build();
+
+    private final String[] lines;
+    private final int lineHeight;
+    private final int color;
+    private final float translateX;
+    private final float translateY;
+    private final float scale;
+
+    /**
+     * Make a new layout.
+     * @param lines The lines to render.
+     * @param maxWidth The width of the widest line.
+     * @param lineHeight The height of a single line.
+     * @param color The text color, without alpha.
+     */
+    public CachedTextLayout(List<String> lines, float maxWidth, int lineHeight, int color) {
+        this.lines = lines.toArray(new String[lines.size()]);
+        this.lineHeight = lineHeight;
+        this.color = color;
+
+        float totalHeight = lineHeight * lines.size();
+        float scaleX = MAX / (maxWidth * MARGIN_FACTOR);
+        float scaleY = MAX / (totalHeight * MARGIN_FACTOR);
+        this.scale = Math.min(scaleX, scaleY); // Maintain aspect ratio
+        this.translateX = (MAX - maxWidth * scale) / 2;
+        this.translateY = (MAX - totalHeight * scale) / 2;
+    }
+
+    /**
+     * Get the cached layout for the given value, or create it.
+     * @param value The value that is being rendered.
+     * @param factory The factory for creating the layout if it is not cached.
+     * @return The layout.
+     */
+    public static CachedTextLayout get(IValue value, Supplier<CachedTextLayout> factory) {
+        CachedTextLayout layout = CACHE.getIfPresent(value);
+        if (layout == null) {
+            layout = factory.get();
+            CACHE.put(value, layout);
+        }
+        return layout;
+    }
+
+    /**
+     * Render the lines of this layout.
+     * @param fontRenderer The font renderer.
+     * @param alpha The alpha to render with.
+     */
+    public void render(FontRenderer fontRenderer, float alpha) {
+        GlStateManager.pushMatrix();
+        GlStateManager.enableRescaleNormal();
+
+        GlStateManager.translate(translateX, translateY, 0F);
+        GlStateManager.scale(scale, scale, 1F);
+
+        int color = Helpers.addAlphaToColor(this.color, alpha);
+        int offset = 0;
+        for (String line : lines) {
+            fontRenderer.drawString(line, 0, offset, color);
+            offset += lineHeight;
+        }
+
+        GlStateManager.disableRescaleNormal();
+        GlStateManager.popMatrix();
+    }
+
+}
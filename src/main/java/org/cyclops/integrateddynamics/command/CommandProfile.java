@@ -0,0 +1,89 @@
+package org.cyclops.integrateddynamics.command;
+
+import com.google.common.collect.Lists;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.command.WrongUsageException;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.TextComponentString;
+import org.cyclops.cyclopscore.command.CommandMod;
+import org.cyclops.cyclopscore.init.ModBase;
+import org.cyclops.integrateddynamics.core.network.diagnostics.NetworkProfiler;
+import org.cyclops.integrateddynamics.core.network.diagnostics.ProfilerEntry;
+
+import java.util.List;
+
+/**
+ * Command for showing the most expensive part types, aspects or networks from the network profiler.
+ * Usage: profile [parttypes|aspects|networks|reset] [count]
+ * @author rubensworks
+ *
+ */
+public class CommandProfile extends CommandMod {
+
+    public static final String NAME = "profile";
+
+    private static final List<String> MODES = Lists.newArrayList("parttypes", "aspects", "networks", "reset");
+    private static final int DEFAULT_COUNT = 10;
+    private static final String USAGE = NAME + " [parttypes|aspects|networks|reset] [count]";
+
+    public CommandProfile(ModBase mod) {
+        super(mod, NAME);
+    }
+
+    @Override
+    public List<String> getTabCompletions(MinecraftServer server, ICommandSender sender, String[] parts, BlockPos blockPos) {
+        if (parts.length <= 1) {
+            return MODES;
+        }
+        return null;
+    }
+
+    @Override
+    public void execute(MinecraftServer server, ICommandSender sender, String[] parts) throws CommandException {
+        NetworkProfiler profiler = NetworkProfiler.getInstance();
+        if (!profiler.isEnabled()) {
+            sender.sendMessage(new TextComponentString("Profiling is disabled, set profilingSampleInterval to a value larger than 0 to enable it."));
+            return;
+        }
+        String mode = parts.length > 0 ? parts[0] : "parttypes";
+        int count = DEFAULT_COUNT;
+        if (parts.length > 1) {
+            try {
+                count = Integer.parseInt(parts[1]);
+            } catch (NumberFormatException e) {
+                count = -1;
+            }
+            if (count < 1) {
+                throw new WrongUsageException("Invalid count '" + parts[1] + "', it must be a positive number. Usage: " + USAGE);
+            }
+        }
+
+        List<ProfilerEntry> entries;
+        switch (mode) {
+            case "parttypes":
+                entries = profiler.getPartTypeEntries();
+                break;
+            case "aspects":
+                entries = profiler.getAspectEntries();
+                break;
+            case "networks":
+                entries = profiler.getNetworkEntries();
+                break;
+            case "reset":
+                profiler.reset();
+                sender.sendMessage(new TextComponentString("The profiler has been reset."));
+                return;
+            default:
+                sender.sendMessage(new TextComponentString("Usage: " + USAGE));
+                return;
+        }
+
+        sender.sendMessage(new TextComponentString("Most expensive " + mode + ":"));
+        for (ProfilerEntry entry : entries.subList(0, Math.min(count, entries.size()))) {
+            sender.sendMessage(new TextComponentString(entry.toString()));
+        }
+    }
+
+}
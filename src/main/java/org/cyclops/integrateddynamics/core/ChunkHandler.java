@@ -0,0 +1,95 @@
+package org.cyclops.integrateddynamics.core;
+
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import org.apache.commons.lang3.tuple.Pair;
+import org.cyclops.integrateddynamics.api.network.INetwork;
+import org.cyclops.integrateddynamics.part.PartTypeConnectorOmniDirectional;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Handles chunk (un)loads to let networks hibernate when all of their chunks are unloaded,
+ * and to invalidate the cached path elements of omnidirectional connector groups.
+ * Networks are indexed by the chunks they span, so that a chunk event only reaches the networks in that chunk.
+ * @author rubensworks
+ */
+public final class ChunkHandler {
+
+    private static ChunkHandler INSTANCE;
+
+    private final Map<Pair<Integer, ChunkPos>, Set<INetwork>> networksByChunk = Maps.newHashMap();
+
+    private ChunkHandler() {
+
+    }
+
+    public static ChunkHandler getInstance() {
+        if(INSTANCE == null) {
+            INSTANCE = new ChunkHandler();
+        }
+        return INSTANCE;
+    }
+
+    @SubscribeEvent
+    public void onChunkLoad(ChunkEvent.Load event) {
+        onChunkChanged(event.getWorld(), event.getChunk().getPos(), true);
+    }
+
+    @SubscribeEvent
+    public void onChunkUnload(ChunkEvent.Unload event) {
+        onChunkChanged(event.getWorld(), event.getChunk().getPos(), false);
+    }
+
+    protected void onChunkChanged(World world, ChunkPos chunk, boolean loaded) {
+        if (!world.isRemote) {
+            int dimension = world.provider.getDimension();
+            Set<INetwork> networks = networksByChunk.get(Pair.of(dimension, chunk));
+            if (networks != null) {
+                for (INetwork network : networks) {
+                    network.onChunkChanged(dimension, chunk, loaded);
+                }
+            }
+            PartTypeConnectorOmniDirectional.LOADED_GROUPS.onChunkChanged(dimension, chunk);
+        }
+    }
+
+    /**
+     * Start sending the events of the given chunks to the given network.
+     * @param network The network.
+     * @param chunks The chunks the network spans, as pairs of dimension id and chunk position.
+     */
+    public void addNetworkChunks(INetwork network, Collection<Pair<Integer, ChunkPos>> chunks) {
+        for (Pair<Integer, ChunkPos> chunk : chunks) {
+            networksByChunk.computeIfAbsent(chunk, key -> Sets.newIdentityHashSet()).add(network);
+        }
+    }
+
+    /**
+     * Stop sending the events of the given chunks to the given network.
+     * @param network The network.
+     * @param chunks The chunks that were added before, as pairs of dimension id and chunk position.
+     */
+    public void removeNetworkChunks(INetwork network, Collection<Pair<Integer, ChunkPos>> chunks) {
+        for (Pair<Integer, ChunkPos> chunk : chunks) {
+            Set<INetwork> networks = networksByChunk.get(chunk);
+            if (networks != null && networks.remove(network) && networks.isEmpty()) {
+                networksByChunk.remove(chunk);
+            }
+        }
+    }
+
+    /**
+     * Forget all indexed networks.
+     */
+    public void clearNetworkChunks() {
+        networksByChunk.clear();
+    }
+
+}
@@ -5,6 +5,7 @@ import net.minecraftforge.fml.common.gameevent.TickEvent;
 import org.cyclops.cyclopscore.helper.MinecraftHelpers;
 import org.cyclops.integrateddynamics.IntegratedDynamics;
 import org.cyclops.integrateddynamics.api.network.INetwork;
+import org.cyclops.integrateddynamics.core.helper.EntityQueryCache;
 import org.cyclops.integrateddynamics.core.network.diagnostics.NetworkDiagnostics;
 import org.cyclops.integrateddynamics.core.persist.world.NetworkWorldStorage;
 
@@ -45,6 +46,10 @@ public final class TickHandler {
             }
             boolean shouldSendTickDurationInfo = isBeingDiagnozed && tick == 0;
             for(INetwork network : NetworkWorldStorage.getInstance(IntegratedDynamics._instance).getNetworks()) {
+                // Networks of which all chunks are unloaded are not ticked at all.
+                if (network.isHibernating()) {
+                    continue;
+                }
                 if (isBeingDiagnozed && (shouldSendTickDurationInfo || network.hasChanged())) {
                     NetworkDiagnostics.getInstance().sendNetworkUpdate(network);
                     network.resetLastSecondDurations();
@@ -58,6 +63,7 @@ public final class TickHandler {
                     throw e;
                 }
             }
+            EntityQueryCache.getInstance().clear();
         }
     }
 
@@ -0,0 +1,155 @@
+package org.cyclops.integrateddynamics.core.evaluate.expression;
+
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.expression.ILazyExpressionValueCache;
+import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
+
+import java.util.Arrays;
+
+/**
+ * A lazy expression of which the variable graph was flattened into a linear program of registers
+ * by the {@link ExpressionCompiler}.
+ *
+ * Each register is either a constant, an external input variable, or an operator that is applied on other registers.
+ * Registers are evaluated lazily, and at most once per evaluation of this expression.
+ * Operator registers that originate from a {@link LazyExpression} still use the value cache of that expression,
+ * so that values are shared with other expressions in the same network.
+ * @author rubensworks
+ */
+public class CompiledExpression<V extends IValue> extends LazyExpression<V> {
+
+    private final IVariable[] sources;
+    private final IValue[] constants;
+    private final IVariable[] externals;
+    private final IOperator[] operators;
+    private final IVariable[][] operatorInputs;
+    private final int[] cacheIds;
+    private final ILazyExpressionValueCache[] valueCaches;
+    private final int root;
+
+    private final IValue[] values;
+    private boolean evaluating = false;
+
+    protected CompiledExpression(LazyExpression<V> expression, IVariable[] sources, IValueType[] types,
+                                 IValue[] constants, IVariable[] externals, IOperator[] operators, int[][] inputs,
+                                 int[] cacheIds, ILazyExpressionValueCache[] valueCaches, int root) {
+        super(expression.getId(), expression.getOperator(), expression.getInput(), expression.getValueCache());
+        this.sources = sources;
+        this.constants = constants;
+        this.externals = externals;
+        this.operators = operators;
+        this.cacheIds = cacheIds;
+        this.valueCaches = valueCaches;
+        this.root = root;
+        this.values = new IValue[sources.length];
+
+        IVariable[] registers = new IVariable[sources.length];
+        for (int i = 0; i < registers.length; i++) {
+            registers[i] = new Register(i, types[i]);
+        }
+        this.operatorInputs = new IVariable[sources.length][];
+        for (int i = 0; i < inputs.length; i++) {
+            if (inputs[i] != null) {
+                operatorInputs[i] = new IVariable[inputs[i].length];
+                for (int j = 0; j < inputs[i].length; j++) {
+                    operatorInputs[i][j] = registers[inputs[i][j]];
+                }
+            }
+        }
+    }
+
+    /**
+     * @return The number of registers in this program.
+     */
+    public int getRegisterCount() {
+        return values.length;
+    }
+
+    /**
+     * @return The number of operator registers in this program.
+     */
+    public int getOperatorCount() {
+        int count = 0;
+        for (IOperator operator : operators) {
+            if (operator != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    protected IValue evaluateUncached() throws EvaluationException {
+        if (evaluating) {
+            // The registers are in use, so fall back to evaluating the original expression tree.
+            return super.evaluateUncached();
+        }
+        evaluating = true;
+        try {
+            Arrays.fill(values, null);
+            return getRegisterValue(root);
+        } finally {
+            evaluating = false;
+        }
+    }
+
+    protected IValue getRegisterValue(int register) throws EvaluationException {
+        IValue value = values[register];
+        if (value == null) {
+            value = computeRegisterValue(register);
+            values[register] = value;
+        }
+        return value;
+    }
+
+    protected IValue computeRegisterValue(int register) throws EvaluationException {
+        if (constants[register] != null) {
+            return constants[register];
+        }
+        if (externals[register] != null) {
+            return externals[register].getValue();
+        }
+        int cacheId = cacheIds[register];
+        ILazyExpressionValueCache valueCache = valueCaches[register];
+        if (valueCache != null && valueCache.hasValue(cacheId)) {
+            return valueCache.getValue(cacheId);
+        }
+        IValue value = operators[register].evaluate(operatorInputs[register]);
+        if (valueCache != null) {
+            valueCache.setValue(cacheId, value);
+        }
+        return value;
+    }
+
+    /**
+     * A variable that refers to a register of this program.
+     */
+    protected class Register implements IVariable {
+
+        private final int index;
+        private final IValueType type;
+
+        public Register(int index, IValueType type) {
+            this.index = index;
+            this.type = type;
+        }
+
+        @Override
+        public IValueType getType() {
+            return type;
+        }
+
+        @Override
+        public IValue getValue() throws EvaluationException {
+            if (!evaluating) {
+                // Registers can be captured by values, such as curried operators, that outlive the evaluation.
+                return sources[index].getValue();
+            }
+            return getRegisterValue(index);
+        }
+    }
+
+}
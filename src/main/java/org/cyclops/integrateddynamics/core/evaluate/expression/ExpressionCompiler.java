@@ -0,0 +1,269 @@
+package org.cyclops.integrateddynamics.core.evaluate.expression;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.expression.ILazyExpressionValueCache;
+import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxy;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
+import org.cyclops.integrateddynamics.core.evaluate.operator.GeneralChoiceOperator;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeBoolean;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeList;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeListProxyMaterialized;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypes;
+import org.cyclops.integrateddynamics.core.evaluate.variable.Variable;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compiles the variable graph of a {@link LazyExpression} into a {@link CompiledExpression}.
+ *
+ * Nested lazy expressions are flattened into registers, where identical operator applications are merged,
+ * operators on constant inputs are folded into constants,
+ * choices with a constant condition are replaced by the chosen branch,
+ * and registers that are not reachable from the root anymore are dropped.
+ * All other variables, such as aspect variables, are kept as external inputs.
+ * @author rubensworks
+ */
+public class ExpressionCompiler {
+
+    private final List<Node> nodes = Lists.newArrayList();
+    private final Map<IVariable, Integer> registers = Maps.newIdentityHashMap();
+    private final Set<IVariable> visiting = Sets.newIdentityHashSet();
+    private final Map<OperatorKey, Integer> operatorRegisters = Maps.newHashMap();
+
+    protected ExpressionCompiler() {
+
+    }
+
+    /**
+     * Compile the given expression.
+     * @param expression The expression to compile.
+     * @param <V> The value type.
+     * @return The compiled expression, or the original expression if it could not be compiled.
+     */
+    public static <V extends IValue> LazyExpression<V> compile(LazyExpression<V> expression) {
+        ExpressionCompiler compiler = new ExpressionCompiler();
+        int root;
+        try {
+            root = compiler.visit(expression);
+        } catch (EvaluationException e) {
+            return expression;
+        }
+        return compiler.build(expression, root);
+    }
+
+    /**
+     * @param type A value type.
+     * @return If values of the given type are immutable and independent of the world, so they can be folded.
+     */
+    protected static boolean isFoldableType(IValueType type) {
+        return type == ValueTypes.BOOLEAN
+                || type == ValueTypes.INTEGER
+                || type == ValueTypes.LONG
+                || type == ValueTypes.DOUBLE
+                || type == ValueTypes.STRING
+                || type == ValueTypes.NBT
+                || type == ValueTypes.OBJECT_BLOCK
+                || type == ValueTypes.OBJECT_ITEMSTACK
+                || type == ValueTypes.OBJECT_FLUIDSTACK;
+    }
+
+    /**
+     * @param value A value.
+     * @return If the given value can be used as input or output of a folded operator.
+     */
+    protected static boolean isFoldable(IValue value) {
+        if (value == null) {
+            return false;
+        }
+        if (value.getType() == ValueTypes.LIST) {
+            IValueTypeListProxy list = ((ValueTypeList.ValueList) value).getRawValue();
+            return list instanceof ValueTypeListProxyMaterialized && isFoldableType(list.getValueType());
+        }
+        return isFoldableType(value.getType());
+    }
+
+    protected int visit(IVariable variable) throws EvaluationException {
+        Integer existing = registers.get(variable);
+        if (existing != null) {
+            return existing;
+        }
+        int register;
+        if (variable.getClass() == Variable.class && variable.getValue() != null) {
+            register = addNode(Node.constant(variable, variable.getValue()));
+        } else if (variable instanceof LazyExpression && visiting.add(variable)) {
+            LazyExpression<?> expression = (LazyExpression<?>) variable;
+            IVariable[] input = expression.getInput();
+            int[] inputs = new int[input.length];
+            for (int i = 0; i < input.length; i++) {
+                inputs[i] = visit(input[i]);
+            }
+            visiting.remove(variable);
+            register = addOperator(expression, inputs);
+        } else {
+            // Cyclic references are kept as external inputs, so they behave exactly like the original graph.
+            register = addNode(Node.external(variable));
+        }
+        registers.put(variable, register);
+        return register;
+    }
+
+    protected int addNode(Node node) {
+        nodes.add(node);
+        return nodes.size() - 1;
+    }
+
+    protected int addOperator(LazyExpression<?> expression, int[] inputs) {
+        IOperator operator = expression.getOperator();
+        IValueType[] inputTypes = new IValueType[inputs.length];
+        boolean constantInputs = true;
+        for (int i = 0; i < inputs.length; i++) {
+            Node input = nodes.get(inputs[i]);
+            inputTypes[i] = input.type;
+            constantInputs &= input.constant != null && isFoldable(input.constant);
+        }
+
+        // Prune the branch of a choice that can never be taken.
+        if (operator instanceof GeneralChoiceOperator && inputs.length == 3
+                && nodes.get(inputs[0]).constant instanceof ValueTypeBoolean.ValueBoolean
+                && operator.validateTypes(inputTypes) == null) {
+            boolean condition = ((ValueTypeBoolean.ValueBoolean) nodes.get(inputs[0]).constant).getRawValue();
+            return condition ? inputs[1] : inputs[2];
+        }
+
+        // Fold operators on constant inputs, errors are left to be thrown during evaluation.
+        if (constantInputs) {
+            IVariable[] constants = new IVariable[inputs.length];
+            for (int i = 0; i < inputs.length; i++) {
+                Node input = nodes.get(inputs[i]);
+                constants[i] = new Variable<>(input.type, input.constant);
+            }
+            try {
+                IValue value = operator.evaluate(constants);
+                if (isFoldable(value)) {
+                    return addNode(Node.constant(expression, value));
+                }
+            } catch (EvaluationException e) {
+                // Don't fold
+            }
+        }
+
+        // Merge identical operator applications.
+        OperatorKey key = new OperatorKey(operator, inputs);
+        Integer existing = operatorRegisters.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        int register = addNode(Node.operator(expression, inputs));
+        operatorRegisters.put(key, register);
+        return register;
+    }
+
+    protected <V extends IValue> CompiledExpression<V> build(LazyExpression<V> expression, int root) {
+        // Only keep the registers that are reachable from the root, nodes are already in topological order.
+        boolean[] reachable = new boolean[nodes.size()];
+        reachable[root] = true;
+        for (int i = root; i >= 0; i--) {
+            if (reachable[i] && nodes.get(i).inputs != null) {
+                for (int input : nodes.get(i).inputs) {
+                    reachable[input] = true;
+                }
+            }
+        }
+        int[] mapping = new int[nodes.size()];
+        int count = 0;
+        for (int i = 0; i < nodes.size(); i++) {
+            mapping[i] = reachable[i] ? count++ : -1;
+        }
+
+        IVariable[] sources = new IVariable[count];
+        IValueType[] types = new IValueType[count];
+        IValue[] constants = new IValue[count];
+        IVariable[] externals = new IVariable[count];
+        IOperator[] operators = new IOperator[count];
+        int[][] inputs = new int[count][];
+        int[] cacheIds = new int[count];
+        ILazyExpressionValueCache[] valueCaches = new ILazyExpressionValueCache[count];
+        for (int i = 0; i < nodes.size(); i++) {
+            int register = mapping[i];
+            if (register >= 0) {
+                Node node = nodes.get(i);
+                sources[register] = node.source;
+                types[register] = node.type;
+                constants[register] = node.constant;
+                externals[register] = node.external;
+                if (node.inputs != null) {
+                    LazyExpression<?> source = (LazyExpression<?>) node.source;
+                    operators[register] = source.getOperator();
+                    inputs[register] = new int[node.inputs.length];
+                    for (int j = 0; j < node.inputs.length; j++) {
+                        inputs[register][j] = mapping[node.inputs[j]];
+                    }
+                    cacheIds[register] = source.getId();
+                    valueCaches[register] = source.getValueCache();
+                }
+            }
+        }
+        return new CompiledExpression<>(expression, sources, types, constants, externals, operators, inputs,
+                cacheIds, valueCaches, mapping[root]);
+    }
+
+    protected static class Node {
+        private final IVariable source;
+        private final IValueType type;
+        private final IValue constant;
+        private final IVariable external;
+        private final int[] inputs;
+
+        private Node(IVariable source, IValue constant, IVariable external, int[] inputs) {
+            this.source = source;
+            this.type = source.getType();
+            this.constant = constant;
+            this.external = external;
+            this.inputs = inputs;
+        }
+
+        public static Node constant(IVariable source, IValue value) {
+            return new Node(source, value, null, null);
+        }
+
+        public static Node external(IVariable variable) {
+            return new Node(variable, null, variable, null);
+        }
+
+        public static Node operator(LazyExpression<?> expression, int[] inputs) {
+            return new Node(expression, null, null, inputs);
+        }
+    }
+
+    protected static class OperatorKey {
+        private final IOperator operator;
+        private final int[] inputs;
+
+        public OperatorKey(IOperator operator, int[] inputs) {
+            this.operator = operator;
+            this.inputs = inputs;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof OperatorKey
+                    && this.operator == ((OperatorKey) obj).operator
+                    && Arrays.equals(this.inputs, ((OperatorKey) obj).inputs);
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(operator) * 31 + Arrays.hashCode(inputs);
+        }
+    }
+
+}
@@ -1,5 +1,6 @@
 package org.cyclops.integrateddynamics.core.evaluate.expression;
 
+import org.cyclops.integrateddynamics.GeneralConfig;
 import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
 import org.cyclops.integrateddynamics.api.evaluate.expression.IExpression;
 import org.cyclops.integrateddynamics.api.evaluate.expression.ILazyExpressionValueCache;
@@ -21,6 +22,12 @@ public class LazyExpression<V extends IValue> implements IExpression<V> {
     private final ILazyExpressionValueCache valueCache;
     private boolean errored = false;
 
+    private long version = 0;
+    private long versionEpoch = -1;
+    private long[] inputVersions = null;
+    private boolean refreshingVersion = false;
+    private IValue memoizedValue = null;
+
     public LazyExpression(int id, IOperator op, IVariable[] input, ILazyExpressionValueCache valueCache) {
         this.id = id;
         this.op = op;
@@ -33,11 +40,72 @@ public class LazyExpression<V extends IValue> implements IExpression<V> {
         if(valueCache.hasValue(id)) {
             return valueCache.getValue(id);
         }
-        IValue value = op.evaluate(input);
+        // Reuse the value of a previous tick if none of the input versions have changed since.
+        boolean versioned = GeneralConfig.memoizeExpressions && refreshVersion();
+        IValue value = versioned ? memoizedValue : null;
+        if(value == null) {
+            value = evaluateUncached();
+            if(versioned) {
+                memoizedValue = value;
+            }
+        }
         valueCache.setValue(id, value);
         return value;
     }
 
+    /**
+     * Evaluate this expression without looking at any cached values of this expression.
+     * @return The value.
+     * @throws EvaluationException If evaluation failed.
+     */
+    protected IValue evaluateUncached() throws EvaluationException {
+        return op.evaluate(input);
+    }
+
+    @Override
+    public long getVersion() {
+        return GeneralConfig.memoizeExpressions && refreshVersion() ? version : VERSION_UNKNOWN;
+    }
+
+    /**
+     * Compare the current input versions with the ones of the last refresh,
+     * and increase the version of this expression if any of them changed.
+     * This is done at most once for each epoch of the value cache.
+     * @return If all inputs have a known version.
+     */
+    protected boolean refreshVersion() {
+        long epoch = valueCache.getEpoch();
+        if(refreshingVersion || (epoch >= 0 && epoch == versionEpoch)) {
+            return !refreshingVersion && inputVersions != null;
+        }
+        refreshingVersion = true;
+        try {
+            boolean changed = inputVersions == null;
+            long[] versions = changed ? new long[input.length] : inputVersions;
+            for (int i = 0; i < input.length; i++) {
+                long inputVersion = input[i] == null ? VERSION_UNKNOWN : input[i].getVersion();
+                if (inputVersion == VERSION_UNKNOWN) {
+                    inputVersions = null;
+                    memoizedValue = null;
+                    return false;
+                }
+                if (inputVersion != versions[i]) {
+                    versions[i] = inputVersion;
+                    changed = true;
+                }
+            }
+            if (changed) {
+                version++;
+                inputVersions = versions;
+                memoizedValue = null;
+            }
+            return true;
+        } finally {
+            versionEpoch = epoch;
+            refreshingVersion = false;
+        }
+    }
+
     @Override
     public boolean hasErrored() {
         return errored;
@@ -66,6 +134,14 @@ public class LazyExpression<V extends IValue> implements IExpression<V> {
         }
     }
 
+    public int getId() {
+        return id;
+    }
+
+    public ILazyExpressionValueCache getValueCache() {
+        return valueCache;
+    }
+
     public IOperator getOperator() {
         return op;
     }
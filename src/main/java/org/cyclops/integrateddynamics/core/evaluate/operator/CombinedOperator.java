@@ -1,7 +1,6 @@
 package org.cyclops.integrateddynamics.core.evaluate.operator;
 
 import net.minecraft.nbt.*;
-import org.cyclops.cyclopscore.helper.MinecraftHelpers;
 import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
 import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
 import org.cyclops.integrateddynamics.api.evaluate.operator.IOperatorSerializer;
@@ -269,30 +268,43 @@ public class CombinedOperator extends OperatorBase {
 
         @Override
         public String serialize(CombinedOperator operator) {
+            return serializeTag(operator).toString();
+        }
+
+        @Override
+        public CombinedOperator deserialize(String valueOperator) throws EvaluationException {
+            try {
+                return deserializeTag(JsonToNBT.getTagFromJson(valueOperator));
+            } catch (NBTException e) {
+                e.printStackTrace();
+                throw new EvaluationException(e.getMessage());
+            }
+        }
+
+        @Override
+        public NBTBase serializeTag(CombinedOperator operator) {
             OperatorsFunction function = (OperatorsFunction) operator.getFunction();
             IOperator[] operators = function.getOperators();
             NBTTagCompound tag = new NBTTagCompound();
             NBTTagList list = new NBTTagList();
             for (IOperator functionOperator : operators) {
-                list.appendTag(new NBTTagString(Operators.REGISTRY.serialize(functionOperator)));
+                list.appendTag(Operators.REGISTRY.serializeTag(functionOperator));
             }
             tag.setTag("operators", list);
-            return tag.toString();
+            return tag;
         }
 
         @Override
-        public CombinedOperator deserialize(String valueOperator) throws EvaluationException {
-            NBTTagList list;
-            try {
-                NBTTagCompound tag = JsonToNBT.getTagFromJson(valueOperator);
-                list = tag.getTagList("operators", MinecraftHelpers.NBTTag_Types.NBTTagString.ordinal());
-            } catch (NBTException e) {
-                e.printStackTrace();
-                throw new EvaluationException(e.getMessage());
+        public CombinedOperator deserializeTag(NBTBase valueOperator) throws EvaluationException {
+            if (!(valueOperator instanceof NBTTagCompound)) {
+                return IOperatorSerializer.super.deserializeTag(valueOperator);
             }
+            // Older saves contain a list of operator strings instead of operator tags.
+            NBTBase listTag = ((NBTTagCompound) valueOperator).getTag("operators");
+            NBTTagList list = listTag instanceof NBTTagList ? (NBTTagList) listTag : new NBTTagList();
             IOperator[] operators = new IOperator[list.tagCount()];
             for (int i = 0; i < list.tagCount(); i++) {
-                operators[i] = Objects.requireNonNull(Operators.REGISTRY.deserialize(list.getStringTagAt(i)));
+                operators[i] = Objects.requireNonNull(Operators.REGISTRY.deserializeTag(list.get(i)));
             }
             return newFunction(operators);
         }
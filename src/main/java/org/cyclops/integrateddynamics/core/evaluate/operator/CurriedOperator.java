@@ -1,6 +1,7 @@
 package org.cyclops.integrateddynamics.core.evaluate.operator;
 
 import net.minecraft.nbt.JsonToNBT;
+import net.minecraft.nbt.NBTBase;
 import net.minecraft.nbt.NBTException;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
@@ -13,7 +14,7 @@ import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
 import org.cyclops.integrateddynamics.api.logicprogrammer.IConfigRenderPattern;
-import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypes;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueHelpers;
 import org.cyclops.integrateddynamics.core.evaluate.variable.Variable;
 import org.cyclops.integrateddynamics.core.helper.L10NValues;
 
@@ -162,47 +163,54 @@ public class CurriedOperator implements IOperator {
 
         @Override
         public String serialize(CurriedOperator operator) {
+            return serializeTag(operator).toString();
+        }
+
+        @Override
+        public CurriedOperator deserialize(String valueOperator) throws EvaluationException {
+            try {
+                return deserializeTag(JsonToNBT.getTagFromJson(valueOperator));
+            } catch (NBTException e) {
+                e.printStackTrace();
+                throw new EvaluationException(e.getMessage());
+            }
+        }
+
+        @Override
+        public NBTBase serializeTag(CurriedOperator operator) {
             NBTTagList list = new NBTTagList();
-            for (int i = 0; i < operator.appliedVariables.length; i++) {
-                IVariable appliedVariable = operator.appliedVariables[i];
+            for (IVariable appliedVariable : operator.appliedVariables) {
                 IValue value;
                 try {
                     value = appliedVariable.getValue();
                 } catch (EvaluationException e) {
                     value = appliedVariable.getType().getDefault();
                 }
-                i++;
-                NBTTagCompound valueTag = new NBTTagCompound();
-                IValueType valueType = value.getType();
-                valueTag.setString("valueType", valueType.getUnlocalizedName());
-                valueTag.setString("value", valueType.serialize(value));
-                list.appendTag(valueTag);
+                list.appendTag(ValueHelpers.serialize(value));
             }
 
             NBTTagCompound tag = new NBTTagCompound();
             tag.setTag("values", list);
-            tag.setString("baseOperator", Operators.REGISTRY.serialize(operator.baseOperator));
-            return tag.toString();
+            tag.setTag("baseOperator", Operators.REGISTRY.serializeTag(operator.baseOperator));
+            return tag;
         }
 
         @Override
-        public CurriedOperator deserialize(String valueOperator) throws EvaluationException {
-            NBTTagCompound tag;
-            try {
-                tag = JsonToNBT.getTagFromJson(valueOperator);
-            } catch (NBTException e) {
-                e.printStackTrace();
-                throw new EvaluationException(e.getMessage());
+        public CurriedOperator deserializeTag(NBTBase valueOperator) throws EvaluationException {
+            if (!(valueOperator instanceof NBTTagCompound)) {
+                return IOperatorSerializer.super.deserializeTag(valueOperator);
             }
+            NBTTagCompound tag = (NBTTagCompound) valueOperator;
             NBTTagList list = tag.getTagList("values", MinecraftHelpers.NBTTag_Types.NBTTagCompound.ordinal());
             IVariable[] variables = new IVariable[list.tagCount()];
             for (int i = 0; i < list.tagCount(); i++) {
-                NBTTagCompound valuetag = list.getCompoundTagAt(i);
-                IValueType valueType = ValueTypes.REGISTRY.getValueType(valuetag.getString("valueType"));
-                IValue value = valueType.deserialize(valuetag.getString("value"));
-                variables[i] = new Variable(valueType, value);
+                IValue value = ValueHelpers.deserialize(list.getCompoundTagAt(i));
+                if (value == null) {
+                    throw new EvaluationException(String.format("Could not deserialize the curried value '%s'", list.getCompoundTagAt(i)));
+                }
+                variables[i] = new Variable(value.getType(), value);
             }
-            IOperator baseOperator = Objects.requireNonNull(Operators.REGISTRY.deserialize(tag.getString("baseOperator")));
+            IOperator baseOperator = Objects.requireNonNull(Operators.REGISTRY.deserializeTag(tag.getTag("baseOperator")));
             return new CurriedOperator(baseOperator, variables);
         }
     }
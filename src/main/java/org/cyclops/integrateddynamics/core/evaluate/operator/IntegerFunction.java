@@ -0,0 +1,27 @@
+package org.cyclops.integrateddynamics.core.evaluate.operator;
+
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeInteger;
+
+/**
+ * A function with an integer output that is calculated on raw integers.
+ * The output value is only created once, for small numbers it is interned.
+ * @author rubensworks
+ */
+public abstract class IntegerFunction implements OperatorBase.IFunction {
+
+    @Override
+    public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
+        return ValueTypeInteger.ValueInteger.of(evaluateInt(variables));
+    }
+
+    /**
+     * Evaluate this function for the given input to a raw integer.
+     * @param variables The input variables holder.
+     * @return The output value.
+     * @throws EvaluationException If an exception occurs while evaluating
+     */
+    public abstract int evaluateInt(OperatorBase.SafeVariablesGetter variables) throws EvaluationException;
+
+}
@@ -9,6 +9,8 @@ import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
 import org.cyclops.integrateddynamics.api.logicprogrammer.IConfigRenderPattern;
 import org.cyclops.integrateddynamics.core.evaluate.variable.ValueHelpers;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeInteger;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeListProxyLazy;
 import org.cyclops.integrateddynamics.core.helper.L10NValues;
 
 import java.util.Arrays;
@@ -28,6 +30,7 @@ public abstract class OperatorBase implements IOperator {
     private final IConfigRenderPattern renderPattern;
 
     private String unlocalizedName = null;
+    private volatile IValueType[] lastValidInputTypes = null;
 
     protected OperatorBase(String symbol, String operatorName, IValueType[] inputTypes, IValueType outputType,
                            IFunction function, IConfigRenderPattern renderPattern) {
@@ -129,11 +132,37 @@ public abstract class OperatorBase implements IOperator {
 
     @Override
     public IValue evaluate(IVariable... input) throws EvaluationException {
-        L10NHelpers.UnlocalizedString error = validateTypes(ValueHelpers.from(input));
+        validateInput(input);
+        try {
+            return function.evaluate(new SafeVariablesGetter(input));
+        } catch (ValueTypeListProxyLazy.LazyEvaluationException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Check if the given input is valid for this operator.
+     * The last valid input types are remembered, so that repeated evaluations don't have to validate again.
+     * @param input The ordered input values.
+     * @throws EvaluationException If the input is invalid.
+     */
+    protected void validateInput(IVariable[] input) throws EvaluationException {
+        IValueType[] validInputTypes = this.lastValidInputTypes;
+        if(validInputTypes != null && validInputTypes.length == input.length) {
+            boolean valid = true;
+            for(int i = 0; i < input.length && valid; i++) {
+                valid = input[i] != null && input[i].getType() == validInputTypes[i];
+            }
+            if(valid) {
+                return;
+            }
+        }
+        IValueType[] inputTypes = ValueHelpers.from(input);
+        L10NHelpers.UnlocalizedString error = validateTypes(inputTypes);
         if(error != null) {
             throw new EvaluationException(error.localize());
         }
-        return function.evaluate(new SafeVariablesGetter(input));
+        this.lastValidInputTypes = inputTypes;
     }
 
     @Override
@@ -199,6 +228,10 @@ public abstract class OperatorBase implements IOperator {
             return this.variables;
         }
 
+        public int getInt(int i) throws EvaluationException {
+            return ((ValueTypeInteger.ValueInteger) variables[i].getValue()).getRawValue();
+        }
+
         public static class Shifted extends SafeVariablesGetter {
 
             public Shifted(int start, IVariable... variables) {
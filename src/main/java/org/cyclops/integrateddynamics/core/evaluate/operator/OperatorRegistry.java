@@ -6,7 +6,9 @@ import com.google.gson.JsonObject;
 import com.google.gson.JsonSyntaxException;
 import gnu.trove.map.TIntObjectMap;
 import gnu.trove.map.hash.TIntObjectHashMap;
+import net.minecraft.nbt.NBTBase;
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagString;
 import net.minecraft.util.JsonUtils;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -129,6 +131,39 @@ public class OperatorRegistry implements IOperatorRegistry {
         return DEFAULT_SERIALIZER.deserialize(value);
     }
 
+    @Override
+    public NBTBase serializeTag(IOperator value) {
+        NBTTagCompound tag = new NBTTagCompound();
+        for (IOperatorSerializer serializer : serializers) {
+            if (serializer.canHandle(value)) {
+                tag.setString("serializer", serializer.getUniqueName());
+                tag.setTag("value", serializer.serializeTag(value));
+                return tag;
+            }
+        }
+        tag.setTag("value", DEFAULT_SERIALIZER.serializeTag(value));
+        return tag;
+    }
+
+    @Override
+    public IOperator deserializeTag(NBTBase tag) throws EvaluationException {
+        if (tag instanceof NBTTagString) {
+            return deserialize(((NBTTagString) tag).getString());
+        }
+        if (!(tag instanceof NBTTagCompound)) {
+            throw new EvaluationException(String.format("Could not deserialize the operator tag '%s'", tag));
+        }
+        NBTTagCompound compound = (NBTTagCompound) tag;
+        IOperatorSerializer serializer = DEFAULT_SERIALIZER;
+        if (compound.hasKey("serializer", MinecraftHelpers.NBTTag_Types.NBTTagString.ordinal())) {
+            serializer = namedSerializers.get(compound.getString("serializer"));
+            if (serializer == null) {
+                throw new EvaluationException(String.format("No serializer was found to deserialize the operator tag '%s'", tag));
+            }
+        }
+        return serializer.deserializeTag(compound.getTag("value"));
+    }
+
     @Override
     public String getTypeId() {
         return "operator";
@@ -34,6 +34,7 @@ import net.minecraft.nbt.NBTTagLong;
 import net.minecraft.nbt.NBTTagString;
 import net.minecraft.tileentity.TileEntityFurnace;
 import net.minecraft.util.DamageSource;
+import net.minecraft.util.EntitySelectors;
 import net.minecraft.util.NonNullList;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.StringUtils;
@@ -69,6 +70,7 @@ import org.cyclops.integrateddynamics.core.evaluate.IOperatorValuePropagator;
 import org.cyclops.integrateddynamics.core.evaluate.OperatorBuilders;
 import org.cyclops.integrateddynamics.core.evaluate.build.OperatorBuilder;
 import org.cyclops.integrateddynamics.core.evaluate.variable.*;
+import org.cyclops.integrateddynamics.core.helper.EntityQueryCache;
 import org.cyclops.integrateddynamics.core.helper.Helpers;
 import org.cyclops.integrateddynamics.core.helper.L10NValues;
 import org.cyclops.integrateddynamics.core.helper.obfuscation.ObfuscationHelpers;
@@ -235,23 +237,20 @@ public final class Operators {
      * ----------------------------------- INTEGER OPERATORS -----------------------------------
      */
 
-    private static final ValueTypeInteger.ValueInteger ZERO = ValueTypeInteger.ValueInteger.of(0);
-
     /**
      * Integer MODULO operator with two input integers and one output integer.
      */
     public static final IOperator INTEGER_MODULUS = REGISTRY.register(OperatorBuilders.INTEGER_2.symbol("%").operatorName("modulus")
-            .function(new OperatorBase.IFunction() {
+            .function(new IntegerFunction() {
                 @Override
-                public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
-                    ValueTypeInteger.ValueInteger b = variables.getValue(1);
-                    if (b.getRawValue() == 0) { // You can not divide by zero
+                public int evaluateInt(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
+                    int b = variables.getInt(1);
+                    if (b == 0) { // You can not divide by zero
                         throw new EvaluationException("Division by zero");
-                    } else if (b.getRawValue() == 1) { // If b is neutral element for division
-                        return ZERO;
+                    } else if (b == 1) { // If b is neutral element for division
+                        return 0;
                     } else {
-                        ValueTypeInteger.ValueInteger a = variables.getValue(0);
-                        return ValueTypeInteger.ValueInteger.of(a.getRawValue() % b.getRawValue());
+                        return variables.getInt(0) % b;
                     }
                 }
             }).build());
@@ -260,11 +259,10 @@ public final class Operators {
      * Integer INCREMENT operator with one input integers and one output integer.
      */
     public static final IOperator INTEGER_INCREMENT = REGISTRY.register(OperatorBuilders.INTEGER_1_SUFFIX.symbol("++").operatorName("increment")
-            .function(new OperatorBase.IFunction() {
+            .function(new IntegerFunction() {
                 @Override
-                public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
-                    ValueTypeInteger.ValueInteger a = variables.getValue(0);
-                    return ValueTypeInteger.ValueInteger.of(a.getRawValue() + 1);
+                public int evaluateInt(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
+                    return variables.getInt(0) + 1;
                 }
             }).build());
 
@@ -272,11 +270,10 @@ public final class Operators {
      * Integer INCREMENT operator with one input integers and one output integer.
      */
     public static final IOperator INTEGER_DECREMENT = REGISTRY.register(OperatorBuilders.INTEGER_1_SUFFIX.symbol("--").operatorName("decrement")
-            .function(new OperatorBase.IFunction() {
+            .function(new IntegerFunction() {
                 @Override
-                public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
-                    ValueTypeInteger.ValueInteger a = variables.getValue(0);
-                    return ValueTypeInteger.ValueInteger.of(a.getRawValue() - 1);
+                public int evaluateInt(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
+                    return variables.getInt(0) - 1;
                 }
             }).build());
 
@@ -383,12 +380,10 @@ public final class Operators {
      * Binary AND operator with two input integers and one output integers.
      */
     public static final IOperator BINARY_AND = REGISTRY.register(OperatorBuilders.BINARY_2.symbol("&").operatorName("and")
-            .function(new OperatorBase.IFunction() {
+            .function(new IntegerFunction() {
                 @Override
-                public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
-                    ValueTypeInteger.ValueInteger a = variables.getValue(0);
-                    ValueTypeInteger.ValueInteger b = variables.getValue(1);
-                    return ValueTypeInteger.ValueInteger.of(a.getRawValue() & b.getRawValue());
+                public int evaluateInt(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
+                    return variables.getInt(0) & variables.getInt(1);
                 }
             }).build());
 
@@ -396,12 +391,10 @@ public final class Operators {
      * Binary OR operator with two input integers and one output integers.
      */
     public static final IOperator BINARY_OR = REGISTRY.register(OperatorBuilders.BINARY_2.symbol("|").operatorName("or")
-            .function(new OperatorBase.IFunction() {
+            .function(new IntegerFunction() {
                 @Override
-                public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
-                    ValueTypeInteger.ValueInteger a = variables.getValue(0);
-                    ValueTypeInteger.ValueInteger b = variables.getValue(1);
-                    return ValueTypeInteger.ValueInteger.of(a.getRawValue() | b.getRawValue());
+                public int evaluateInt(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
+                    return variables.getInt(0) | variables.getInt(1);
                 }
             }).build());
 
@@ -409,12 +402,10 @@ public final class Operators {
      * Binary XOR operator with two input integers and one output integers.
      */
     public static final IOperator BINARY_XOR = REGISTRY.register(OperatorBuilders.BINARY_2.symbol("^").operatorName("xor")
-            .function(new OperatorBase.IFunction() {
+            .function(new IntegerFunction() {
                 @Override
-                public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
-                    ValueTypeInteger.ValueInteger a = variables.getValue(0);
-                    ValueTypeInteger.ValueInteger b = variables.getValue(1);
-                    return ValueTypeInteger.ValueInteger.of(a.getRawValue() ^ b.getRawValue());
+                public int evaluateInt(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
+                    return variables.getInt(0) ^ variables.getInt(1);
                 }
             }).build());
 
@@ -422,11 +413,10 @@ public final class Operators {
      * Binary COMPLEMENT operator with one input integers and one output integers.
      */
     public static final IOperator BINARY_COMPLEMENT = REGISTRY.register(OperatorBuilders.BINARY_1_PREFIX.symbol("~").operatorName("complement")
-            .function(new OperatorBase.IFunction() {
+            .function(new IntegerFunction() {
                 @Override
-                public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
-                    ValueTypeInteger.ValueInteger a = variables.getValue(0);
-                    return ValueTypeInteger.ValueInteger.of(~a.getRawValue());
+                public int evaluateInt(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
+                    return ~variables.getInt(0);
                 }
             }).build());
 
@@ -434,12 +424,10 @@ public final class Operators {
      * Binary &lt;&lt; operator with two input integers and one output integers.
      */
     public static final IOperator BINARY_LSHIFT = REGISTRY.register(OperatorBuilders.BINARY_2.symbol("<<").operatorName("lshift")
-            .function(new OperatorBase.IFunction() {
+            .function(new IntegerFunction() {
                 @Override
-                public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
-                    ValueTypeInteger.ValueInteger a = variables.getValue(0);
-                    ValueTypeInteger.ValueInteger b = variables.getValue(1);
-                    return ValueTypeInteger.ValueInteger.of(a.getRawValue() << b.getRawValue());
+                public int evaluateInt(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
+                    return variables.getInt(0) << variables.getInt(1);
                 }
             }).build());
 
@@ -447,12 +435,10 @@ public final class Operators {
      * Binary &gt;&gt; operator with two input integers and one output integers.
      */
     public static final IOperator BINARY_RSHIFT = REGISTRY.register(OperatorBuilders.BINARY_2.symbol(">>").operatorName("rshift")
-            .function(new OperatorBase.IFunction() {
+            .function(new IntegerFunction() {
                 @Override
-                public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
-                    ValueTypeInteger.ValueInteger a = variables.getValue(0);
-                    ValueTypeInteger.ValueInteger b = variables.getValue(1);
-                    return ValueTypeInteger.ValueInteger.of(a.getRawValue() >> b.getRawValue());
+                public int evaluateInt(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
+                    return variables.getInt(0) >> variables.getInt(1);
                 }
             }).build());
 
@@ -460,12 +446,10 @@ public final class Operators {
      * Binary &gt;&gt;&gt; operator with two input integers and one output integers.
      */
     public static final IOperator BINARY_RZSHIFT = REGISTRY.register(OperatorBuilders.BINARY_2.symbol(">>>").operatorName("rzshift")
-            .function(new OperatorBase.IFunction() {
+            .function(new IntegerFunction() {
                 @Override
-                public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
-                    ValueTypeInteger.ValueInteger a = variables.getValue(0);
-                    ValueTypeInteger.ValueInteger b = variables.getValue(1);
-                    return ValueTypeInteger.ValueInteger.of(a.getRawValue() >>> b.getRawValue());
+                public int evaluateInt(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
+                    return variables.getInt(0) >>> variables.getInt(1);
                 }
             }).build());
 
@@ -610,7 +594,7 @@ public final class Operators {
                 @Override
                 public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
                     IValueTypeListProxy a = ((ValueTypeList.ValueList) variables.getValue(0)).getRawValue();
-                    return ValueTypeBoolean.ValueBoolean.of(a.getLength() == 0);
+                    return ValueTypeBoolean.ValueBoolean.of(a.isEmpty());
                 }
             }).build());
 
@@ -632,7 +616,7 @@ public final class Operators {
                 public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
                     IValueTypeListProxy a = ((ValueTypeList.ValueList) variables.getValue(0)).getRawValue();
                     ValueTypeInteger.ValueInteger b = variables.getValue(1);
-                    if (b.getRawValue() < a.getLength() && b.getRawValue() >= 0) {
+                    if (a.hasIndex(b.getRawValue())) {
                         return a.get(b.getRawValue());
                     } else {
                         throw new EvaluationException("Index out of bounds. Tried to get element " + b.getRawValue()
@@ -663,7 +647,7 @@ public final class Operators {
                 public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
                     IValueTypeListProxy a = ((ValueTypeList.ValueList) variables.getValue(0)).getRawValue();
                     ValueTypeInteger.ValueInteger b = variables.getValue(1);
-                    if (b.getRawValue() < a.getLength() && b.getRawValue() >= 0) {
+                    if (a.hasIndex(b.getRawValue())) {
                         return a.get(b.getRawValue());
                     } else {
                         if (!ValueHelpers.correspondsTo(a.getValueType(), variables.getVariables()[2].getType())) {
@@ -694,12 +678,7 @@ public final class Operators {
                 public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
                     IValueTypeListProxy<IValueType<IValue>, IValue> list = ((ValueTypeList.ValueList) variables.getValue(0)).getRawValue();
                     IValue input = variables.getValue(1);
-                    for (IValue value : list) {
-                        if (value.equals(input)) {
-                            return ValueTypeBoolean.ValueBoolean.of(true);
-                        }
-                    }
-                    return ValueTypeBoolean.ValueBoolean.of(false);
+                    return ValueTypeBoolean.ValueBoolean.of(list.contains(input));
                 }
             }).build());
 
@@ -715,7 +694,8 @@ public final class Operators {
                 public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
                     IValueTypeListProxy<IValueType<IValue>, IValue> list = ((ValueTypeList.ValueList) variables.getValue(0)).getRawValue();
                     IOperator operator = OperatorBuilders.getSafePredictate((ValueTypeOperator.ValueOperator) variables.getValue(1));
-                    for (IValue value : list) {
+                    for (int i = 0; list.hasIndex(i); i++) {
+                        IValue value = list.get(i);
                         IValue result = operator.evaluate(new IVariable[]{new Variable<>(value.getType(), value)});
                         if (((ValueTypeBoolean.ValueBoolean) result).getRawValue()) {
                             return ValueTypeBoolean.ValueBoolean.of(true);
@@ -840,7 +820,7 @@ public final class Operators {
                 @Override
                 public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
                     IValueTypeListProxy a = ((ValueTypeList.ValueList) variables.getValue(0)).getRawValue();
-                    if (a.getLength() > 0) {
+                    if (!a.isEmpty()) {
                         return a.get(0);
                     } else {
                         throw new EvaluationException("Index out of bounds. Tried to get the head of a list of length "
@@ -914,17 +894,7 @@ public final class Operators {
                 @Override
                 public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
                     IValueTypeListProxy<IValueType<IValue>, IValue> list = ((ValueTypeList.ValueList) variables.getValue(0)).getRawValue();
-                    Set<IValue> values = Sets.newTreeSet(new Comparator<IValue>() {
-                        @Override
-                        @SneakyThrows
-                        public int compare(IValue o1, IValue o2) {
-                            return o1.equals(o2) ? 0 : o1.hashCode() - o2.hashCode();
-                        }
-                    });
-                    for (IValue value : list) {
-                        values.add(value);
-                    }
-                    return ValueTypeList.ValueList.ofList(list.getValueType(), Lists.newArrayList(values));
+                    return ValueTypeList.ValueList.ofFactory(new ValueTypeListProxyUniq<>(list));
                 }
             }).build());
 
@@ -951,6 +921,22 @@ public final class Operators {
                 }
             }).build());
 
+    /**
+     * Take the leading elements of the given list for as long as they match the given predicate.
+     */
+    public static final IOperator LIST_TAKE_WHILE = REGISTRY.register(OperatorBuilders.LIST
+            .inputTypes(new IValueType[]{ValueTypes.LIST, ValueTypes.OPERATOR})
+            .renderPattern(IConfigRenderPattern.INFIX).output(ValueTypes.LIST)
+            .symbolOperator("take_while")
+            .function(new OperatorBase.IFunction() {
+                @Override
+                public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
+                    IValueTypeListProxy<IValueType<IValue>, IValue> list = ((ValueTypeList.ValueList) variables.getValue(0)).getRawValue();
+                    IOperator operator = OperatorBuilders.getSafePredictate((ValueTypeOperator.ValueOperator) variables.getValue(1));
+                    return ValueTypeList.ValueList.ofFactory(new ValueTypeListProxyTakeWhile<>(operator, list));
+                }
+            }).build());
+
     /**
      * ----------------------------------- BLOCK OBJECT OPERATORS -----------------------------------
      */
@@ -1996,9 +1982,9 @@ public final class Operators {
                         Vec3d direction = origin.addVector(lookVec.x * reachDistance, lookVec.y * reachDistance, lookVec.z * reachDistance);
 
                         float size = entity.getCollisionBorderSize();
-                        List<Entity> list = entity.world.getEntitiesWithinAABBExcludingEntity(entity,
+                        List<Entity> list = EntityQueryCache.getInstance().getEntitiesInAABBexcluding(entity.world, entity,
                                 entity.getEntityBoundingBox().expand(lookVec.x * reachDistance, lookVec.y * reachDistance, lookVec.z * reachDistance)
-                                        .grow((double) size, (double) size, (double) size));
+                                        .grow((double) size, (double) size, (double) size), EntitySelectors.NOT_SPECTATING);
                         for (Entity e : list) {
                             if (e.canBeCollidedWith()) {
                                 float f10 = e.getCollisionBorderSize();
@@ -2535,25 +2521,35 @@ public final class Operators {
                         public IValue getOutput(Pair<IOperator, OperatorBase.SafeVariablesGetter> input) throws EvaluationException {
                             final IOperator innerOperator = input.getLeft();
                             OperatorBase.SafeVariablesGetter variables = input.getRight();
-                            ValueTypeList.ValueList<?, ?> inputList = variables.getValue(0);
-                            List<IValue> filtered = Lists.newArrayList();
-                            for (IValue value : inputList.getRawValue()) {
-                                IValue result = ValueHelpers.evaluateOperator(innerOperator, value);
-                                if (result.getType() != ValueTypes.BOOLEAN) {
-                                    L10NHelpers.UnlocalizedString error = new L10NHelpers.UnlocalizedString(
-                                            L10NValues.OPERATOR_ERROR_WRONGPREDICATE,
-                                            OPERATOR_FILTER.getLocalizedNameFull(),
-                                            result.getType(), ValueTypes.BOOLEAN);
-                                    throw new EvaluationException(error.localize());
-                                } else if (((ValueTypeBoolean.ValueBoolean) result).getRawValue()) {
-                                    filtered.add(value);
-                                }
-                            }
-                            IValueType valueType = inputList.getRawValue().getValueType();
-                            return ValueTypeList.ValueList.ofList(valueType, filtered);
+                            ValueTypeList.ValueList inputList = variables.getValue(0);
+                            return ValueTypeList.ValueList.ofFactory(
+                                    new ValueTypeListProxyFiltered<>(innerOperator, inputList.getRawValue()));
                         }
                     })).build());
 
+    /**
+     * Combine the elements of two lists pairwise by applying the given operator, resulting in a new list.
+     */
+    public static final IOperator OPERATOR_ZIP = REGISTRY.register(OperatorBuilders.OPERATOR
+            .inputTypes(new IValueType[]{ValueTypes.OPERATOR, ValueTypes.LIST, ValueTypes.LIST})
+            .renderPattern(IConfigRenderPattern.PREFIX_3_LONG)
+            .output(ValueTypes.LIST).symbolOperator("zip")
+            .function(new OperatorBase.IFunction() {
+                @Override
+                public IValue evaluate(OperatorBase.SafeVariablesGetter variables) throws EvaluationException {
+                    IOperator operator = OperatorBuilders.getSafeOperator((ValueTypeOperator.ValueOperator) variables.getValue(0), ValueTypes.CATEGORY_ANY);
+                    if (operator.getRequiredInputLength() != 2) {
+                        L10NHelpers.UnlocalizedString error = new L10NHelpers.UnlocalizedString(
+                                L10NValues.OPERATOR_ERROR_WRONGINPUTLENGTH,
+                                operator.getLocalizedNameFull(), 2, operator.getRequiredInputLength());
+                        throw new EvaluationException(error.localize());
+                    }
+                    IValueTypeListProxy a = ((ValueTypeList.ValueList) variables.getValue(1)).getRawValue();
+                    IValueTypeListProxy b = ((ValueTypeList.ValueList) variables.getValue(2)).getRawValue();
+                    return ValueTypeList.ValueList.ofFactory(new ValueTypeListProxyZipped(operator, a, b));
+                }
+            }).build());
+
     /**
      * Takes the conjunction of two predicates.
      */
@@ -0,0 +1,130 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+
+/**
+ * An insertion-only hash set for values that uses open addressing with linear probing.
+ * The hash codes of the added values are stored alongside them,
+ * so that {@link IValue#equals(Object)} is only called when the hash codes match.
+ * @param <V> The value type.
+ * @author rubensworks
+ */
+public class ValueHashSet<V extends IValue> {
+
+    private static final int MIN_CAPACITY = 8;
+
+    private IValue[] values;
+    private int[] hashes;
+    private int mask;
+    private int size = 0;
+    private boolean containsNull = false;
+
+    public ValueHashSet() {
+        this(MIN_CAPACITY);
+    }
+
+    /**
+     * @param expectedSize The number of values that are expected to be added, to avoid resizing.
+     */
+    public ValueHashSet(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < expectedSize * 2 && capacity < (1 << 30)) {
+            capacity <<= 1;
+        }
+        allocate(capacity);
+    }
+
+    protected void allocate(int capacity) {
+        this.values = new IValue[capacity];
+        this.hashes = new int[capacity];
+        this.mask = capacity - 1;
+    }
+
+    protected static int hash(IValue value) {
+        int h = value.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * @return The number of values in this set.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Add the given value.
+     * @param value The value.
+     * @return If the value was not present yet.
+     */
+    public boolean add(V value) {
+        if (value == null) {
+            if (containsNull) {
+                return false;
+            }
+            containsNull = true;
+            size++;
+            return true;
+        }
+        int hash = hash(value);
+        int slot = findSlot(value, hash);
+        if (values[slot] != null) {
+            return false;
+        }
+        values[slot] = value;
+        hashes[slot] = hash;
+        size++;
+        // Keep the load factor at most one half, to keep probe sequences short.
+        if (size * 2 > values.length) {
+            resize();
+        }
+        return true;
+    }
+
+    /**
+     * @param value A value.
+     * @return If the value is present.
+     */
+    public boolean contains(IValue value) {
+        if (value == null) {
+            return containsNull;
+        }
+        return values[findSlot(value, hash(value))] != null;
+    }
+
+    /**
+     * Find the slot that contains the given value, or otherwise the empty slot where it should be inserted.
+     * @param value The value.
+     * @param hash The hash of the value.
+     * @return The slot index.
+     */
+    protected int findSlot(IValue value, int hash) {
+        int slot = hash & mask;
+        IValue current;
+        while ((current = values[slot]) != null) {
+            if (hashes[slot] == hash && current.equals(value)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    protected void resize() {
+        IValue[] oldValues = values;
+        int[] oldHashes = hashes;
+        allocate(oldValues.length << 1);
+        for (int i = 0; i < oldValues.length; i++) {
+            IValue value = oldValues[i];
+            if (value != null) {
+                int slot = oldHashes[i] & mask;
+                while (values[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                values[slot] = value;
+                hashes[slot] = oldHashes[i];
+            }
+        }
+    }
+
+}
@@ -9,6 +9,7 @@ import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
 import org.cyclops.integrateddynamics.api.item.IVariableFacade;
 import org.cyclops.integrateddynamics.core.evaluate.operator.CurriedOperator;
+import org.cyclops.integrateddynamics.core.helper.L10NValues;
 
 import javax.annotation.Nullable;
 
@@ -114,6 +115,27 @@ public class ValueHelpers {
         }
     }
 
+    /**
+     * Evaluate a predicate for the given value.
+     * @param source The operator that applies the predicate, used for error reporting.
+     * @param predicate The predicate.
+     * @param value The value to test.
+     * @return The boolean result of the predicate.
+     * @throws EvaluationException If something went wrong during operator evaluation,
+     *                             or if the predicate did not produce a boolean.
+     */
+    public static boolean evaluatePredicate(IOperator source, IOperator predicate, IValue value) throws EvaluationException {
+        IValue result = evaluateOperator(predicate, value);
+        if (result.getType() != ValueTypes.BOOLEAN) {
+            L10NHelpers.UnlocalizedString error = new L10NHelpers.UnlocalizedString(
+                    L10NValues.OPERATOR_ERROR_WRONGPREDICATE,
+                    source.getLocalizedNameFull(),
+                    result.getType(), ValueTypes.BOOLEAN);
+            throw new EvaluationException(error.localize());
+        }
+        return ((ValueTypeBoolean.ValueBoolean) result).getRawValue();
+    }
+
     /**
      * Serialize the given value to NBT.
      * @param value The value.
@@ -122,12 +144,13 @@ public class ValueHelpers {
     public static NBTTagCompound serialize(IValue value) {
         NBTTagCompound tag = new NBTTagCompound();
         tag.setString("valueType", value.getType().getUnlocalizedName());
-        tag.setString("value", value.getType().serialize(value));
+        tag.setTag("value", value.getType().serializeTag(value));
         return tag;
     }
 
     /**
      * Deserialize the given NBT tag to a value.
+     * Values that were stored as strings are deserialized as well.
      * @param tag The NBT tag containing a value.
      * @return The value.
      */
@@ -136,7 +159,7 @@ public class ValueHelpers {
         if (valueType == null) {
             return null;
         }
-        return valueType.deserialize(tag.getString("value"));
+        return valueType.deserializeTag(tag.getTag("value"));
     }
 
 }
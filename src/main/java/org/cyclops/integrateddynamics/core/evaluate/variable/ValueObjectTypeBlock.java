@@ -129,6 +129,16 @@ public class ValueObjectTypeBlock extends ValueObjectTypeBase<ValueObjectTypeBlo
             Block blockB = b.getBlock();
             return blockA == blockB && blockA.getMetaFromState(a) == blockB.getMetaFromState(b);
         }
+
+        @Override
+        public int hashCode() {
+            // Consistent with isEqual, which only compares the block and its metadata.
+            if (!getRawValue().isPresent()) {
+                return getType().hashCode();
+            }
+            Block block = getRawValue().get().getBlock();
+            return getType().hashCode() + 31 * block.hashCode() + block.getMetaFromState(getRawValue().get());
+        }
     }
 
 }
@@ -6,6 +6,7 @@ import lombok.ToString;
 import net.minecraft.advancements.critereon.ItemPredicate;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.JsonToNBT;
+import net.minecraft.nbt.NBTBase;
 import net.minecraft.nbt.NBTException;
 import net.minecraft.nbt.NBTTagCompound;
 import org.cyclops.cyclopscore.helper.ItemStackHelpers;
@@ -49,27 +50,40 @@ public class ValueObjectTypeItemStack extends ValueObjectTypeBase<ValueObjectTyp
 
     @Override
     public String serialize(ValueItemStack value) {
+        return serializeTag(value).toString();
+    }
+
+    @Override
+    public ValueItemStack deserialize(String value) {
+        try {
+            return deserializeTag(JsonToNBT.getTagFromJson(value));
+        } catch (NBTException e) {
+            return ValueItemStack.of(ItemStack.EMPTY);
+        }
+    }
+
+    @Override
+    public NBTTagCompound serializeTag(ValueItemStack value) {
         NBTTagCompound tag = new NBTTagCompound();
         ItemStack itemStack = value.getRawValue();
         if(!itemStack.isEmpty()) {
             itemStack.writeToNBT(tag);
             tag.setInteger("Count", itemStack.getCount());
         }
-        return tag.toString();
+        return tag;
     }
 
     @Override
-    public ValueItemStack deserialize(String value) {
-        try {
-            NBTTagCompound tag = JsonToNBT.getTagFromJson(value);
-            ItemStack itemStack = new ItemStack(tag);
-            if (!itemStack.isEmpty()) {
-                itemStack.setCount(tag.getInteger("Count"));
-            }
-            return ValueItemStack.of(itemStack);
-        } catch (NBTException e) {
-            return ValueItemStack.of(ItemStack.EMPTY);
+    public ValueItemStack deserializeTag(NBTBase value) {
+        if (!(value instanceof NBTTagCompound)) {
+            return super.deserializeTag(value);
         }
+        NBTTagCompound tag = (NBTTagCompound) value;
+        ItemStack itemStack = new ItemStack(tag);
+        if (!itemStack.isEmpty()) {
+            itemStack.setCount(tag.getInteger("Count"));
+        }
+        return ValueItemStack.of(itemStack);
     }
 
     @Override
@@ -146,6 +160,19 @@ public class ValueObjectTypeItemStack extends ValueObjectTypeBase<ValueObjectTyp
         public boolean equals(Object o) {
             return o instanceof ValueItemStack && ItemStackHelpers.areItemStacksIdentical(((ValueItemStack) o).itemStack, this.itemStack);
         }
+
+        @Override
+        public int hashCode() {
+            // Only based on properties that must be equal for identical stacks.
+            if (itemStack.isEmpty()) {
+                return getType().hashCode();
+            }
+            int hash = getType().hashCode();
+            hash = 31 * hash + itemStack.getItem().hashCode();
+            hash = 31 * hash + itemStack.getItemDamage();
+            hash = 31 * hash + itemStack.getCount();
+            return hash;
+        }
     }
 
     public static class ValueItemStackPredicate extends ValuePredicate<ValueItemStack> {
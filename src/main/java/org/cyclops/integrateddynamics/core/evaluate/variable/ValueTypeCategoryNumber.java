@@ -32,6 +32,17 @@ public class ValueTypeCategoryNumber extends ValueTypeCategoryBase<IValue> {
         return map;
     }
 
+    public IValueTypeNumber getLowestType(IValueTypeNumber a, IValueTypeNumber b) {
+        // Specialization of the vararg variant, as this is called for every arithmetic operation.
+        if(a == b || b == null) {
+            return a;
+        }
+        if(a == null) {
+            return b;
+        }
+        return INVERTED_ELEMENTS.get(a) >= INVERTED_ELEMENTS.get(b) ? a : b;
+    }
+
     public IValueTypeNumber getLowestType(IValueTypeNumber... types) {
         IValueTypeNumber first = types[0];
         for(int i = 1; i < types.length; i++) {
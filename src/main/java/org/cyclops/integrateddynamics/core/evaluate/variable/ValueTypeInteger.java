@@ -94,6 +94,10 @@ public class ValueTypeInteger extends ValueTypeBase<ValueTypeInteger.ValueIntege
     @ToString
     public static class ValueInteger extends ValueBase {
 
+        private static final int CACHE_LOW = -128;
+        private static final int CACHE_HIGH = 1024;
+        private static final ValueInteger[] CACHE = new ValueInteger[CACHE_HIGH - CACHE_LOW + 1];
+
         private final int value;
 
         private ValueInteger(int value) {
@@ -102,6 +106,16 @@ public class ValueTypeInteger extends ValueTypeBase<ValueTypeInteger.ValueIntege
         }
 
         public static ValueInteger of(int value) {
+            // Small values are interned, so that counters and comparators don't create garbage.
+            if (value >= CACHE_LOW && value <= CACHE_HIGH) {
+                int index = value - CACHE_LOW;
+                ValueInteger cached = CACHE[index];
+                if (cached == null) {
+                    cached = new ValueInteger(value);
+                    CACHE[index] = cached;
+                }
+                return cached;
+            }
             return new ValueInteger(value);
         }
 
@@ -5,6 +5,8 @@ import com.google.common.collect.Lists;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import lombok.ToString;
+import net.minecraft.nbt.NBTBase;
+import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.JsonUtils;
 import net.minecraft.util.text.TextFormatting;
 import org.cyclops.cyclopscore.helper.Helpers;
@@ -74,14 +76,39 @@ public class ValueTypeList extends ValueObjectTypeBase<ValueTypeList.ValueList>
         return getDefault();
     }
 
+    @Override
+    public NBTBase serializeTag(ValueList value) {
+        try {
+            return ValueTypeListProxyFactories.REGISTRY.serializeTag(value.getRawValue());
+        } catch (IValueTypeListProxyFactoryTypeRegistry.SerializationException e) {
+            e.printStackTrace();
+        }
+        return new NBTTagCompound();
+    }
+
+    @Override
+    public ValueList deserializeTag(NBTBase tag) {
+        try {
+            IValueTypeListProxy<IValueType<IValue>, IValue> proxy = ValueTypeListProxyFactories.REGISTRY.deserializeTag(tag);
+            return ValueList.ofFactory(proxy);
+        } catch (IValueTypeListProxyFactoryTypeRegistry.SerializationException e) {
+            e.printStackTrace();
+        }
+        return getDefault();
+    }
+
     @Override
     public ValueList materialize(ValueList value) throws EvaluationException {
         IValueTypeListProxy<IValueType<IValue>, IValue> list = value.getRawValue();
         if (list.isInfinite()) {
             return ValueList.ofList(list.getValueType(), Lists.newArrayList(list.get(0)));
         }
-        List<IValue> values = ImmutableList.copyOf(list);
-        return ValueList.ofList(list.getValueType(), values);
+        try {
+            List<IValue> values = ImmutableList.copyOf(list);
+            return ValueList.ofList(list.getValueType(), values);
+        } catch (ValueTypeListProxyLazy.LazyEvaluationException e) {
+            throw e.getCause();
+        }
     }
 
     @Override
@@ -49,15 +49,15 @@ public class ValueTypeListProxyAppend<T extends IValueType<V>, V extends IValue>
         @Override
         protected void serializeNbt(ValueTypeListProxyAppend<IValueType<IValue>, IValue> value, NBTTagCompound tag) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
             tag.setString("valueType", value.value.getType().getUnlocalizedName());
-            tag.setString("value", value.value.getType().serialize(value.value));
-            tag.setString("sublist", ValueTypeListProxyFactories.REGISTRY.serialize(value.list));
+            tag.setTag("value", value.value.getType().serializeTag(value.value));
+            tag.setTag("sublist", ValueTypeListProxyFactories.REGISTRY.serializeTag(value.list));
         }
 
         @Override
         protected ValueTypeListProxyAppend<IValueType<IValue>, IValue> deserializeNbt(NBTTagCompound tag) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
             IValueType valueType = ValueTypes.REGISTRY.getValueType(tag.getString("valueType"));
-            IValue value = valueType.deserialize(tag.getString("value"));
-            IValueTypeListProxy<IValueType<IValue>, IValue> list = ValueTypeListProxyFactories.REGISTRY.deserialize(tag.getString("sublist"));
+            IValue value = valueType.deserializeTag(tag.getTag("value"));
+            IValueTypeListProxy<IValueType<IValue>, IValue> list = ValueTypeListProxyFactories.REGISTRY.deserializeTag(tag.getTag("sublist"));
             return new ValueTypeListProxyAppend<>(list, value);
         }
     }
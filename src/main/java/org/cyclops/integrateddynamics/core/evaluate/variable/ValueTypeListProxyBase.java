@@ -1,12 +1,11 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
-import com.google.common.collect.Iterables;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxy;
 
-import java.util.Arrays;
 import java.util.Iterator;
+import java.util.Objects;
 
 /**
  * A list proxy base implementation.
@@ -17,6 +16,7 @@ public abstract class ValueTypeListProxyBase<T extends IValueType<V>, V extends
 
     private final String name;
     private final T valueType;
+    private int hash = 0;
 
     public ValueTypeListProxyBase(String name, T valueType) {
         this.name = name;
@@ -38,16 +38,21 @@ public abstract class ValueTypeListProxyBase<T extends IValueType<V>, V extends
         StringBuilder sb = new StringBuilder();
         boolean first = true;
         sb.append("[");
-        for(V value : this) {
-            if(!first) {
-                sb.append(", ");
-            }
-            first = false;
-            sb.append(getValueType().toCompactString(value));
-            if(sb.toString().length() > 10) {
-                sb.append("...");
-                break;
+        try {
+            for(V value : this) {
+                if(!first) {
+                    sb.append(", ");
+                }
+                first = false;
+                sb.append(getValueType().toCompactString(value));
+                if(sb.toString().length() > 10) {
+                    sb.append("...");
+                    break;
+                }
             }
+        } catch (ValueTypeListProxyLazy.LazyEvaluationException e) {
+            // Only show the elements that could be evaluated.
+            sb.append("...");
         }
         sb.append("]");
         return sb.toString();
@@ -60,10 +65,13 @@ public abstract class ValueTypeListProxyBase<T extends IValueType<V>, V extends
 
     @Override
     public boolean equals(Object obj) {
+        if(obj == this) {
+            return !isInfinite();
+        }
         if(obj == null || !(obj instanceof ValueTypeListProxyBase)) {
             return false;
         }
-        ValueTypeListProxyBase other = (ValueTypeListProxyBase) obj;
+        ValueTypeListProxyBase<?, ?> other = (ValueTypeListProxyBase<?, ?>) obj;
         if(!getName().equals(other.getName()) || !(getValueType() == other.getValueType())) {
             return false;
         }
@@ -71,10 +79,61 @@ public abstract class ValueTypeListProxyBase<T extends IValueType<V>, V extends
         if (this.isInfinite() || other.isInfinite()) {
             return false;
         }
+        if (this.isHashCacheable() && other.isHashCacheable() && this.hashCode() != other.hashCode()) {
+            return false;
+        }
 
-        Object[] o = Iterables.toArray(this, Object.class);
-        Object[] o2 = Iterables.toArray(other, Object.class);
-        return Arrays.equals(o, o2);
+        try {
+            Iterator<V> it = this.iterator();
+            Iterator<?> itOther = other.iterator();
+            while (it.hasNext() && itOther.hasNext()) {
+                if (!Objects.equals(it.next(), itOther.next())) {
+                    return false;
+                }
+            }
+            return !it.hasNext() && !itOther.hasNext();
+        } catch (ValueTypeListProxyLazy.LazyEvaluationException e) {
+            // Lists of which an element can not be evaluated are never equal.
+            return false;
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = this.hash;
+        if (hash == 0) {
+            try {
+                hash = computeHashCode();
+            } catch (ValueTypeListProxyLazy.LazyEvaluationException e) {
+                // Lists of which an element can not be evaluated are only hashed by their type, and never cached.
+                return getValueType().hashCode();
+            }
+            if (isHashCacheable()) {
+                this.hash = hash;
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * @return The structural hash code of this list, which is based on its elements.
+     */
+    protected int computeHashCode() {
+        int hash = getValueType().hashCode();
+        // Avoid infinite iteration
+        if (!isInfinite()) {
+            for (V value : this) {
+                hash = 31 * hash + (value == null ? 0 : value.hashCode());
+            }
+        }
+        return hash == 0 ? 1 : hash;
+    }
+
+    /**
+     * @return If the elements of this list never change, so that its hash code can be cached.
+     */
+    protected boolean isHashCacheable() {
+        return false;
     }
 
     @Override
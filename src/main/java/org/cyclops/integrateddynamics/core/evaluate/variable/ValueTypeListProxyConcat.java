@@ -1,9 +1,8 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
+import net.minecraft.nbt.NBTBase;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
-import net.minecraft.nbt.NBTTagString;
-import org.cyclops.cyclopscore.helper.MinecraftHelpers;
 import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
@@ -56,17 +55,19 @@ public class ValueTypeListProxyConcat<T extends IValueType<V>, V extends IValue>
         protected void serializeNbt(ValueTypeListProxyConcat<IValueType<IValue>, IValue> value, NBTTagCompound tag) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
             NBTTagList list = new NBTTagList();
             for (IValueTypeListProxy<IValueType<IValue>, IValue> listProxy : value.lists) {
-                list.appendTag(new NBTTagString(ValueTypeListProxyFactories.REGISTRY.serialize(listProxy)));
+                list.appendTag(ValueTypeListProxyFactories.REGISTRY.serializeTag(listProxy));
             }
             tag.setTag("sublists", list);
         }
 
         @Override
         protected ValueTypeListProxyConcat<IValueType<IValue>, IValue> deserializeNbt(NBTTagCompound tag) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
-            NBTTagList list = tag.getTagList("sublists", MinecraftHelpers.NBTTag_Types.NBTTagString.ordinal());
+            // Older saves contain a list of serialized strings instead of tags.
+            NBTBase listTag = tag.getTag("sublists");
+            NBTTagList list = listTag instanceof NBTTagList ? (NBTTagList) listTag : new NBTTagList();
             IValueTypeListProxy<IValueType<IValue>, IValue>[] listProxies = new IValueTypeListProxy[list.tagCount()];
             for (int i = 0; i < list.tagCount(); i++) {
-                listProxies[i] = ValueTypeListProxyFactories.REGISTRY.deserialize(list.getStringTagAt(i));
+                listProxies[i] = ValueTypeListProxyFactories.REGISTRY.deserializeTag(list.get(i));
             }
             return new ValueTypeListProxyConcat<>(listProxies);
         }
@@ -36,6 +36,10 @@ public class ValueTypeListProxyFactories {
     public static ValueTypeListProxyNbtValueListTag.Factory NBT_VALUE_LIST_TAG;
     public static ValueTypeListProxyNbtValueListByte.Factory NBT_VALUE_LIST_BYTE;
     public static ValueTypeListProxyNbtValueListInt.Factory NBT_VALUE_LIST_INT;
+    public static ValueTypeListProxyFiltered.Factory FILTERED;
+    public static ValueTypeListProxyUniq.Factory UNIQ;
+    public static ValueTypeListProxyZipped.Factory ZIPPED;
+    public static ValueTypeListProxyTakeWhile.Factory TAKE_WHILE;
 
     public static void load() {
         if(MATERIALIZED == null) {
@@ -54,6 +58,10 @@ public class ValueTypeListProxyFactories {
             NBT_VALUE_LIST_TAG = REGISTRY.register(new ValueTypeListProxyNbtValueListTag.Factory());
             NBT_VALUE_LIST_BYTE = REGISTRY.register(new ValueTypeListProxyNbtValueListByte.Factory());
             NBT_VALUE_LIST_INT = REGISTRY.register(new ValueTypeListProxyNbtValueListInt.Factory());
+            FILTERED = REGISTRY.register(new ValueTypeListProxyFiltered.Factory());
+            UNIQ = REGISTRY.register(new ValueTypeListProxyUniq.Factory());
+            ZIPPED = REGISTRY.register(new ValueTypeListProxyZipped.Factory());
+            TAKE_WHILE = REGISTRY.register(new ValueTypeListProxyTakeWhile.Factory());
         }
     }
 
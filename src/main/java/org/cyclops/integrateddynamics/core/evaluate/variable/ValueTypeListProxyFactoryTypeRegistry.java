@@ -1,6 +1,10 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
 import com.google.common.collect.Maps;
+import net.minecraft.nbt.NBTBase;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagString;
+import org.cyclops.cyclopscore.helper.MinecraftHelpers;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxy;
@@ -72,4 +76,33 @@ public class ValueTypeListProxyFactoryTypeRegistry implements IValueTypeListProx
         }
         return factory.deserialize(actualValue);
     }
+
+    @Override
+    public <T extends IValueType<V>, V extends IValue, P extends IValueTypeListProxy<T, V>> NBTBase serializeTag(P proxy) throws SerializationException {
+        IProxyFactory<T, V, P> factory = getFactory(proxy.getName());
+        if(factory == null) {
+            throw new SerializationException(String.format("No serialization factory exists for the list proxy type name '%s'.", proxy.getName()));
+        }
+        NBTTagCompound tag = new NBTTagCompound();
+        tag.setString("proxyName", proxy.getName());
+        tag.setTag("value", factory.serializeTag(proxy));
+        return tag;
+    }
+
+    @Override
+    public <T extends IValueType<V>, V extends IValue, P extends IValueTypeListProxy<T, V>> P deserializeTag(NBTBase tag) throws SerializationException {
+        if (tag instanceof NBTTagString) {
+            return deserialize(((NBTTagString) tag).getString());
+        }
+        if (!(tag instanceof NBTTagCompound)
+                || !((NBTTagCompound) tag).hasKey("proxyName", MinecraftHelpers.NBTTag_Types.NBTTagString.ordinal())) {
+            throw new SerializationException(String.format("Could not deserialize the serialized list proxy tag '%s'.", tag));
+        }
+        String name = ((NBTTagCompound) tag).getString("proxyName");
+        IProxyFactory<T, V, P> factory = getFactory(name);
+        if(factory == null) {
+            throw new SerializationException(String.format("No deserialization factory exists for the list proxy type name '%s'.", name));
+        }
+        return factory.deserializeTag(((NBTTagCompound) tag).getTag("value"));
+    }
 }
@@ -0,0 +1,67 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import net.minecraft.nbt.NBTTagCompound;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxy;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxyFactoryTypeRegistry;
+import org.cyclops.integrateddynamics.core.evaluate.operator.Operators;
+
+/**
+ * A list that only contains the elements of another list that match a predicate.
+ * @param <T> The value type type.
+ * @param <V> The value type.
+ * @author rubensworks
+ */
+public class ValueTypeListProxyFiltered<T extends IValueType<V>, V extends IValue> extends ValueTypeListProxyLazy<T, V> {
+
+    private final IOperator predicate;
+    private final IValueTypeListProxy<T, V> list;
+    private int listIndex = 0;
+
+    public ValueTypeListProxyFiltered(IOperator predicate, IValueTypeListProxy<T, V> list) {
+        super(ValueTypeListProxyFactories.FILTERED.getName(), list.getValueType());
+        this.predicate = predicate;
+        this.list = list;
+    }
+
+    @Override
+    protected boolean pull() throws EvaluationException {
+        if (!list.hasIndex(listIndex)) {
+            return false;
+        }
+        V value = list.get(listIndex++);
+        if (ValueHelpers.evaluatePredicate(Operators.OPERATOR_FILTER, predicate, value)) {
+            emit(value);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean isInfinite() {
+        return list.isInfinite();
+    }
+
+    public static class Factory extends ValueTypeListProxyNBTFactorySimple<IValueType<IValue>, IValue, ValueTypeListProxyFiltered<IValueType<IValue>, IValue>> {
+
+        @Override
+        public String getName() {
+            return "filtered";
+        }
+
+        @Override
+        protected void serializeNbt(ValueTypeListProxyFiltered<IValueType<IValue>, IValue> value, NBTTagCompound tag) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
+            tag.setTag("operator", Operators.REGISTRY.serializeTag(value.predicate));
+            tag.setTag("sublist", ValueTypeListProxyFactories.REGISTRY.serializeTag(value.list));
+        }
+
+        @Override
+        protected ValueTypeListProxyFiltered<IValueType<IValue>, IValue> deserializeNbt(NBTTagCompound tag) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException, EvaluationException {
+            IOperator predicate = Operators.REGISTRY.deserializeTag(tag.getTag("operator"));
+            IValueTypeListProxy<IValueType<IValue>, IValue> list = ValueTypeListProxyFactories.REGISTRY.deserializeTag(tag.getTag("sublist"));
+            return new ValueTypeListProxyFiltered<>(predicate, list);
+        }
+    }
+}
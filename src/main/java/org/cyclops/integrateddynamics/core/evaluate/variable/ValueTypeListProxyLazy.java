@@ -0,0 +1,149 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import com.google.common.collect.Lists;
+import org.cyclops.integrateddynamics.GeneralConfig;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * A list proxy of which the elements are pulled one by one from one or more source lists.
+ * Elements are only computed when they are requested, and are buffered afterwards,
+ * so that reading the first elements of a list does not require the full source lists to be traversed.
+ * The number of pulls is limited by {@link GeneralConfig#lazyListMaxPulls},
+ * so that lists over infinite sources can not block the evaluation forever.
+ * @param <T> The value type type.
+ * @param <V> The value type.
+ * @author rubensworks
+ */
+public abstract class ValueTypeListProxyLazy<T extends IValueType<V>, V extends IValue> extends ValueTypeListProxyBase<T, V> {
+
+    private final List<V> buffer = Lists.newArrayList();
+    private boolean done = false;
+    private int pulls = 0;
+
+    public ValueTypeListProxyLazy(String name, T valueType) {
+        super(name, valueType);
+    }
+
+    /**
+     * Pull the next element(s) from the source lists, and add them using {@link #emit(IValue)}.
+     * It is allowed to not emit any element in a call.
+     * @return If the source lists had remaining elements, false will end this list.
+     * @throws EvaluationException If something went wrong while getting an element.
+     */
+    protected abstract boolean pull() throws EvaluationException;
+
+    /**
+     * Add the given element to the end of this list.
+     * @param value The element.
+     */
+    protected void emit(V value) {
+        buffer.add(value);
+    }
+
+    /**
+     * Pull elements until the given index is available, or the sources are exhausted.
+     * @param index The index.
+     * @return If the index is available.
+     * @throws EvaluationException If something went wrong while getting an element,
+     *                             or if the maximum number of pulls was exceeded.
+     */
+    protected boolean pullUntil(int index) throws EvaluationException {
+        while (buffer.size() <= index && !done) {
+            if (++pulls > GeneralConfig.lazyListMaxPulls) {
+                throw new EvaluationException(String.format("The list '%s' exceeded the maximum of %s source elements, " +
+                        "it is probably based on an infinite list.", getName(), GeneralConfig.lazyListMaxPulls));
+            }
+            if (!pull()) {
+                done = true;
+            }
+        }
+        return index < buffer.size();
+    }
+
+    @Override
+    public int getLength() throws EvaluationException {
+        if (isInfinite()) {
+            return Integer.MAX_VALUE;
+        }
+        pullUntil(Integer.MAX_VALUE - 1);
+        return buffer.size();
+    }
+
+    @Override
+    public V get(int index) throws EvaluationException {
+        if (hasIndex(index)) {
+            return buffer.get(index);
+        }
+        return null;
+    }
+
+    @Override
+    public boolean hasIndex(int index) throws EvaluationException {
+        return index >= 0 && pullUntil(index);
+    }
+
+    @Override
+    protected boolean isHashCacheable() {
+        // Once all elements have been pulled for calculating the hash, they will not change anymore.
+        return true;
+    }
+
+    @Override
+    public Iterator<V> iterator() {
+        return new LazyIterator();
+    }
+
+    /**
+     * An iterator that only pulls elements when they are requested.
+     */
+    protected class LazyIterator implements Iterator<V> {
+
+        private int index = 0;
+
+        @Override
+        public boolean hasNext() {
+            try {
+                return hasIndex(index);
+            } catch (EvaluationException e) {
+                throw new LazyEvaluationException(e);
+            }
+        }
+
+        @Override
+        public V next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return buffer.get(index++);
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("remove");
+        }
+    }
+
+    /**
+     * Unchecked wrapper for an evaluation exception that occurred while iterating over a lazy list.
+     * It is unwrapped again by {@link org.cyclops.integrateddynamics.core.evaluate.operator.OperatorBase#evaluate}
+     * and {@link ValueTypeList#materialize(ValueTypeList.ValueList)},
+     * while {@link ValueTypeListProxyBase} and list renderers only use the elements that could be evaluated.
+     */
+    public static class LazyEvaluationException extends RuntimeException {
+
+        public LazyEvaluationException(EvaluationException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized EvaluationException getCause() {
+            return (EvaluationException) super.getCause();
+        }
+    }
+}
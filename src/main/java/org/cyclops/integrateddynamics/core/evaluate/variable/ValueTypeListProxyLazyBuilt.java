@@ -66,15 +66,15 @@ public class ValueTypeListProxyLazyBuilt<T extends IValueType<V>, V extends IVal
         @Override
         protected void serializeNbt(ValueTypeListProxyLazyBuilt<IValueType<IValue>, IValue> value, NBTTagCompound tag) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
             tag.setString("valueType", value.value.getType().getUnlocalizedName());
-            tag.setString("value", value.value.getType().serialize(value.value));
-            tag.setString("operator", Operators.REGISTRY.serialize(value.operator));
+            tag.setTag("value", value.value.getType().serializeTag(value.value));
+            tag.setTag("operator", Operators.REGISTRY.serializeTag(value.operator));
         }
 
         @Override
         protected ValueTypeListProxyLazyBuilt<IValueType<IValue>, IValue> deserializeNbt(NBTTagCompound tag) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException, EvaluationException {
             IValueType valueType = ValueTypes.REGISTRY.getValueType(tag.getString("valueType"));
-            IValue value = valueType.deserialize(tag.getString("value"));
-            IOperator operator = Operators.REGISTRY.deserialize(tag.getString("operator"));
+            IValue value = valueType.deserializeTag(tag.getTag("value"));
+            IOperator operator = Operators.REGISTRY.deserializeTag(tag.getTag("operator"));
             return new ValueTypeListProxyLazyBuilt<>(value, operator);
         }
     }
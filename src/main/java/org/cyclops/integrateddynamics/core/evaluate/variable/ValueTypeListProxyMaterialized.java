@@ -14,6 +14,8 @@ import java.util.List;
 public class ValueTypeListProxyMaterialized<T extends IValueType<V>, V extends IValue> extends ValueTypeListProxyBase<T, V> {
 
     private final List<V> list;
+    private boolean containsCalled = false;
+    private volatile ValueHashSet<V> index = null;
 
     public ValueTypeListProxyMaterialized(T valueType, List<V> list) {
         super(ValueTypeListProxyFactories.MATERIALIZED.getName(), valueType);
@@ -29,4 +31,32 @@ public class ValueTypeListProxyMaterialized<T extends IValueType<V>, V extends I
     public V get(int index) throws EvaluationException {
         return list.get(index);
     }
+
+    @Override
+    public boolean contains(IValue value) throws EvaluationException {
+        ValueHashSet<V> index = this.index;
+        if (index == null) {
+            // Only index the list once it is queried more than once, a single lookup is cheaper with a linear scan.
+            if (!containsCalled) {
+                containsCalled = true;
+                for (V element : list) {
+                    if (element.equals(value)) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+            index = new ValueHashSet<>(list.size());
+            for (V element : list) {
+                index.add(element);
+            }
+            this.index = index;
+        }
+        return index.contains(value);
+    }
+
+    @Override
+    protected boolean isHashCacheable() {
+        return true;
+    }
 }
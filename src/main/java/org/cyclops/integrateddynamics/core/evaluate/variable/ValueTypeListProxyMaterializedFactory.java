@@ -1,6 +1,9 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
 import com.google.common.collect.ImmutableList;
+import net.minecraft.nbt.NBTBase;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxyFactoryTypeRegistry;
@@ -55,4 +58,45 @@ public class ValueTypeListProxyMaterializedFactory implements IValueTypeListProx
 
         return new ValueTypeListProxyMaterialized<>(valueType, builder.build());
     }
+
+    @Override
+    public NBTBase serializeTag(ValueTypeListProxyMaterialized<IValueType<IValue>, IValue> values) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
+        IValueType<IValue> valueType = values.getValueType();
+        NBTTagList list = new NBTTagList();
+        for (IValue value : values) {
+            NBTBase valueTag = valueType.serializeTag(value);
+            // NBT lists can only hold tags of a single type, so fall back to the string format for mixed lists.
+            if (list.tagCount() > 0 && list.getTagType() != valueTag.getId()) {
+                return IValueTypeListProxyFactoryTypeRegistry.IProxyFactory.super.serializeTag(values);
+            }
+            list.appendTag(valueTag);
+        }
+        NBTTagCompound tag = new NBTTagCompound();
+        tag.setString("valueType", valueType.getUnlocalizedName());
+        tag.setTag("values", list);
+        return tag;
+    }
+
+    @Override
+    public ValueTypeListProxyMaterialized<IValueType<IValue>, IValue> deserializeTag(NBTBase tag) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
+        if (!(tag instanceof NBTTagCompound)) {
+            return IValueTypeListProxyFactoryTypeRegistry.IProxyFactory.super.deserializeTag(tag);
+        }
+        NBTTagCompound compound = (NBTTagCompound) tag;
+        String valueTypeName = compound.getString("valueType");
+        IValueType<IValue> valueType = ValueTypes.REGISTRY.getValueType(valueTypeName);
+        if (valueType == null) {
+            throw new IValueTypeListProxyFactoryTypeRegistry.SerializationException(String.format("Could not deserialize the serialized materialized list proxy value because the value type by name '%s' was not found.", valueTypeName));
+        }
+        NBTBase valuesTag = compound.getTag("values");
+        if (!(valuesTag instanceof NBTTagList)) {
+            throw new IValueTypeListProxyFactoryTypeRegistry.SerializationException(String.format("Could not deserialize the serialized materialized list proxy tag '%s'.", tag));
+        }
+        NBTTagList list = (NBTTagList) valuesTag;
+        ImmutableList.Builder<IValue> builder = ImmutableList.builder();
+        for (int i = 0; i < list.tagCount(); i++) {
+            builder.add(valueType.deserializeTag(list.get(i)));
+        }
+        return new ValueTypeListProxyMaterialized<>(valueType, builder.build());
+    }
 }
@@ -1,6 +1,7 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
 import net.minecraft.nbt.JsonToNBT;
+import net.minecraft.nbt.NBTBase;
 import net.minecraft.nbt.NBTException;
 import net.minecraft.nbt.NBTTagCompound;
 import org.cyclops.cyclopscore.persist.nbt.INBTProvider;
@@ -37,20 +38,37 @@ public class ValueTypeListProxyNBTFactory<T extends IValueType<V>, V extends IVa
 
     @Override
     public String serialize(P values) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
+        return serializeTag(values).toString();
+    }
+
+    @Override
+    public P deserialize(String value) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
+        try {
+            return deserializeTag(JsonToNBT.getTagFromJson(value));
+        } catch (NBTException e) {
+            e.printStackTrace();
+            throw new IValueTypeListProxyFactoryTypeRegistry.SerializationException(e.getMessage());
+        }
+    }
+
+    @Override
+    public NBTBase serializeTag(P values) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
         NBTTagCompound tag = new NBTTagCompound();
         values.writeGeneratedFieldsToNBT(tag);
-        return tag.toString();
+        return tag;
     }
 
     @Override
-    public P deserialize(String value) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
+    public P deserializeTag(NBTBase tag) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
+        if (!(tag instanceof NBTTagCompound)) {
+            return IValueTypeListProxyFactoryTypeRegistry.IProxyFactory.super.deserializeTag(tag);
+        }
         try {
             Constructor<P> constructor = getProxyClass().getConstructor();
             P proxy = constructor.newInstance();
-            NBTTagCompound tag = JsonToNBT.getTagFromJson(value);
-            proxy.readGeneratedFieldsFromNBT(tag);
+            proxy.readGeneratedFieldsFromNBT((NBTTagCompound) tag);
             return proxy;
-        } catch (NoSuchMethodException | InvocationTargetException | InstantiationException | NBTException | IllegalAccessException e) {
+        } catch (NoSuchMethodException | InvocationTargetException | InstantiationException | IllegalAccessException e) {
             e.printStackTrace();
             throw new IValueTypeListProxyFactoryTypeRegistry.SerializationException(e.getMessage());
         }
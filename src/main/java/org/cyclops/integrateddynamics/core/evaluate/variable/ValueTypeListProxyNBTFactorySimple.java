@@ -1,6 +1,7 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
 import net.minecraft.nbt.JsonToNBT;
+import net.minecraft.nbt.NBTBase;
 import net.minecraft.nbt.NBTException;
 import net.minecraft.nbt.NBTTagCompound;
 import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
@@ -17,17 +18,34 @@ public abstract class ValueTypeListProxyNBTFactorySimple<T extends IValueType<V>
 
     @Override
     public String serialize(P value) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
+        return serializeTag(value).toString();
+    }
+
+    @Override
+    public P deserialize(String value) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
+        try {
+            return deserializeTag(JsonToNBT.getTagFromJson(value));
+        } catch (NBTException e) {
+            e.printStackTrace();
+            throw new IValueTypeListProxyFactoryTypeRegistry.SerializationException(e.getMessage());
+        }
+    }
+
+    @Override
+    public NBTBase serializeTag(P value) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
         NBTTagCompound tag = new NBTTagCompound();
         serializeNbt(value, tag);
-        return tag.toString();
+        return tag;
     }
 
     @Override
-    public P deserialize(String value) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
+    public P deserializeTag(NBTBase tag) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
+        if (!(tag instanceof NBTTagCompound)) {
+            return IValueTypeListProxyFactoryTypeRegistry.IProxyFactory.super.deserializeTag(tag);
+        }
         try {
-            NBTTagCompound tag = JsonToNBT.getTagFromJson(value);
-            return deserializeNbt(tag);
-        } catch (NBTException | EvaluationException e) {
+            return deserializeNbt((NBTTagCompound) tag);
+        } catch (EvaluationException e) {
             e.printStackTrace();
             throw new IValueTypeListProxyFactoryTypeRegistry.SerializationException(e.getMessage());
         }
@@ -1,17 +1,35 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import net.minecraft.item.ItemStack;
 import net.minecraft.util.EnumFacing;
+import net.minecraft.world.World;
 import net.minecraftforge.items.CapabilityItemHandler;
 import net.minecraftforge.items.IItemHandler;
+import org.apache.commons.lang3.tuple.Pair;
 import org.cyclops.cyclopscore.datastructure.DimPos;
 import org.cyclops.cyclopscore.helper.TileHelpers;
 import org.cyclops.cyclopscore.persist.nbt.INBTProvider;
+import org.cyclops.integrateddynamics.GeneralConfig;
+
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.concurrent.TimeUnit;
 
 /**
  * A list proxy for an inventory at a certain position.
+ * When {@link GeneralConfig#inventoryListSnapshots} is enabled, all lists at the same position share a {@link Snapshot},
+ * so that the slot values of unchanged slots are reused across ticks, even when a new list is created.
  */
 public class ValueTypeListProxyPositionedInventory extends ValueTypeListProxyPositioned<ValueObjectTypeItemStack, ValueObjectTypeItemStack.ValueItemStack> implements INBTProvider {
 
+    private static final Cache<Pair<DimPos, EnumFacing>, Snapshot> SNAPSHOTS = CacheBuilder.newBuilder()
+            .expireAfterAccess(10, TimeUnit.SECONDS).build();
+
+    private Snapshot snapshot = null;
+
     public ValueTypeListProxyPositionedInventory(DimPos pos, EnumFacing side) {
         super(ValueTypeListProxyFactories.POSITIONED_INVENTORY.getName(), ValueTypes.OBJECT_ITEMSTACK, pos, side);
     }
@@ -20,8 +38,43 @@ public class ValueTypeListProxyPositionedInventory extends ValueTypeListProxyPos
         return TileHelpers.getCapability(getPos(), getSide(), CapabilityItemHandler.ITEM_HANDLER_CAPABILITY);
     }
 
+    /**
+     * The snapshot is only looked up once for each list.
+     * @return The snapshot of the inventory at this position, or null if snapshots are disabled.
+     */
+    @Nullable
+    public Snapshot getSnapshot() {
+        if (!GeneralConfig.inventoryListSnapshots) {
+            return null;
+        }
+        if (snapshot == null) {
+            Pair<DimPos, EnumFacing> key = Pair.of(getPos(), getSide());
+            snapshot = SNAPSHOTS.getIfPresent(key);
+            if (snapshot == null) {
+                snapshot = new Snapshot(getPos(), getSide());
+                SNAPSHOTS.put(key, snapshot);
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Get the slots of which the contents changed in the current tick, compared to when they were last read.
+     * This reads all slots of the inventory.
+     * @return The indexes of the changed slots in increasing order, or null if snapshots are disabled.
+     */
+    @Nullable
+    public int[] getChangedSlots() {
+        Snapshot snapshot = getSnapshot();
+        return snapshot == null ? null : snapshot.getChangedSlots();
+    }
+
     @Override
     public int getLength() {
+        Snapshot snapshot = getSnapshot();
+        if (snapshot != null) {
+            return snapshot.getSlots();
+        }
         IItemHandler inventory = getInventory();
         if(inventory == null) {
             return 0;
@@ -31,6 +84,94 @@ public class ValueTypeListProxyPositionedInventory extends ValueTypeListProxyPos
 
     @Override
     public ValueObjectTypeItemStack.ValueItemStack get(int index) {
+        Snapshot snapshot = getSnapshot();
+        if (snapshot != null) {
+            return snapshot.get(index);
+        }
         return ValueObjectTypeItemStack.ValueItemStack.of(getInventory().getStackInSlot(index));
     }
+
+    /**
+     * The contents of an inventory at a certain position.
+     * The item handler is only resolved once per tick, and slot values are only built when a slot is read.
+     * A slot value is reused for as long as the stack in that slot does not change,
+     * so that repeated reads don't copy the same stacks again, while changes are visible immediately.
+     */
+    public static class Snapshot {
+
+        private static final ValueObjectTypeItemStack.ValueItemStack[] EMPTY_SLOTS = new ValueObjectTypeItemStack.ValueItemStack[0];
+
+        private final DimPos pos;
+        private final EnumFacing side;
+        private long tick = -1;
+        private IItemHandler inventory = null;
+        private ValueObjectTypeItemStack.ValueItemStack[] slots = EMPTY_SLOTS;
+        private final BitSet changedSlots = new BitSet();
+
+        public Snapshot(DimPos pos, EnumFacing side) {
+            this.pos = pos;
+            this.side = side;
+        }
+
+        protected IItemHandler getInventory() {
+            World world = pos.getWorld();
+            long currentTick = world == null ? -1 : world.getTotalWorldTime();
+            if (currentTick != this.tick || currentTick == -1) {
+                this.tick = currentTick;
+                this.changedSlots.clear();
+                this.inventory = world == null ? null : TileHelpers.getCapability(world, pos.getBlockPos(), side,
+                        CapabilityItemHandler.ITEM_HANDLER_CAPABILITY);
+            }
+            return this.inventory;
+        }
+
+        /**
+         * @return The number of slots in the inventory.
+         */
+        public int getSlots() {
+            IItemHandler inventory = getInventory();
+            return inventory == null ? 0 : inventory.getSlots();
+        }
+
+        /**
+         * @param index The slot index.
+         * @return The item value in the given slot, or null if the slot does not exist.
+         */
+        @Nullable
+        public ValueObjectTypeItemStack.ValueItemStack get(int index) {
+            IItemHandler inventory = getInventory();
+            if (inventory == null) {
+                return null;
+            }
+            int size = inventory.getSlots();
+            if (index < 0 || index >= size) {
+                return null;
+            }
+            if (slots.length != size) {
+                slots = Arrays.copyOf(slots, size);
+            }
+            ItemStack itemStack = inventory.getStackInSlot(index);
+            ValueObjectTypeItemStack.ValueItemStack value = slots[index];
+            if (value == null || !ItemStack.areItemStacksEqual(value.getRawValue(), itemStack)) {
+                // Copy the stack, since the inventory may modify it in-place later on.
+                value = ValueObjectTypeItemStack.ValueItemStack.of(itemStack.copy());
+                slots[index] = value;
+                changedSlots.set(index);
+            }
+            return value;
+        }
+
+        /**
+         * Slots that are read for the first time are also considered changed.
+         * @return The indexes of the slots that changed in the current tick, in increasing order.
+         */
+        public int[] getChangedSlots() {
+            int size = getSlots();
+            for (int i = 0; i < size; i++) {
+                get(i);
+            }
+            return changedSlots.get(0, size).stream().toArray();
+        }
+
+    }
 }
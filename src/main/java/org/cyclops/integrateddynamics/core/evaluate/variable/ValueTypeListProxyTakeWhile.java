@@ -0,0 +1,63 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import net.minecraft.nbt.NBTTagCompound;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxy;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxyFactoryTypeRegistry;
+import org.cyclops.integrateddynamics.core.evaluate.operator.Operators;
+
+/**
+ * A list that contains the leading elements of another list for as long as they match a predicate.
+ * @param <T> The value type type.
+ * @param <V> The value type.
+ * @author rubensworks
+ */
+public class ValueTypeListProxyTakeWhile<T extends IValueType<V>, V extends IValue> extends ValueTypeListProxyLazy<T, V> {
+
+    private final IOperator predicate;
+    private final IValueTypeListProxy<T, V> list;
+    private int listIndex = 0;
+
+    public ValueTypeListProxyTakeWhile(IOperator predicate, IValueTypeListProxy<T, V> list) {
+        super(ValueTypeListProxyFactories.TAKE_WHILE.getName(), list.getValueType());
+        this.predicate = predicate;
+        this.list = list;
+    }
+
+    @Override
+    protected boolean pull() throws EvaluationException {
+        if (!list.hasIndex(listIndex)) {
+            return false;
+        }
+        V value = list.get(listIndex++);
+        if (!ValueHelpers.evaluatePredicate(Operators.LIST_TAKE_WHILE, predicate, value)) {
+            return false;
+        }
+        emit(value);
+        return true;
+    }
+
+    public static class Factory extends ValueTypeListProxyNBTFactorySimple<IValueType<IValue>, IValue, ValueTypeListProxyTakeWhile<IValueType<IValue>, IValue>> {
+
+        @Override
+        public String getName() {
+            return "takewhile";
+        }
+
+        @Override
+        protected void serializeNbt(ValueTypeListProxyTakeWhile<IValueType<IValue>, IValue> value, NBTTagCompound tag) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
+            tag.setTag("operator", Operators.REGISTRY.serializeTag(value.predicate));
+            tag.setTag("sublist", ValueTypeListProxyFactories.REGISTRY.serializeTag(value.list));
+        }
+
+        @Override
+        protected ValueTypeListProxyTakeWhile<IValueType<IValue>, IValue> deserializeNbt(NBTTagCompound tag) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException, EvaluationException {
+            IOperator predicate = Operators.REGISTRY.deserializeTag(tag.getTag("operator"));
+            IValueTypeListProxy<IValueType<IValue>, IValue> list = ValueTypeListProxyFactories.REGISTRY.deserializeTag(tag.getTag("sublist"));
+            return new ValueTypeListProxyTakeWhile<>(predicate, list);
+        }
+    }
+}
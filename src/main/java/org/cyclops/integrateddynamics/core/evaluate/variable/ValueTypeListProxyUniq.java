@@ -0,0 +1,57 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import net.minecraft.nbt.NBTTagCompound;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxy;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxyFactoryTypeRegistry;
+
+/**
+ * A list that contains the first occurrence of all elements of another list.
+ * @param <T> The value type type.
+ * @param <V> The value type.
+ * @author rubensworks
+ */
+public class ValueTypeListProxyUniq<T extends IValueType<V>, V extends IValue> extends ValueTypeListProxyLazy<T, V> {
+
+    private final IValueTypeListProxy<T, V> list;
+    private final ValueHashSet<V> seen = new ValueHashSet<>();
+    private int listIndex = 0;
+
+    public ValueTypeListProxyUniq(IValueTypeListProxy<T, V> list) {
+        super(ValueTypeListProxyFactories.UNIQ.getName(), list.getValueType());
+        this.list = list;
+    }
+
+    @Override
+    protected boolean pull() throws EvaluationException {
+        if (!list.hasIndex(listIndex)) {
+            return false;
+        }
+        V value = list.get(listIndex++);
+        if (seen.add(value)) {
+            emit(value);
+        }
+        return true;
+    }
+
+    public static class Factory extends ValueTypeListProxyNBTFactorySimple<IValueType<IValue>, IValue, ValueTypeListProxyUniq<IValueType<IValue>, IValue>> {
+
+        @Override
+        public String getName() {
+            return "uniq";
+        }
+
+        @Override
+        protected void serializeNbt(ValueTypeListProxyUniq<IValueType<IValue>, IValue> value, NBTTagCompound tag) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
+            tag.setTag("sublist", ValueTypeListProxyFactories.REGISTRY.serializeTag(value.list));
+        }
+
+        @Override
+        protected ValueTypeListProxyUniq<IValueType<IValue>, IValue> deserializeNbt(NBTTagCompound tag) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException, EvaluationException {
+            IValueTypeListProxy<IValueType<IValue>, IValue> list = ValueTypeListProxyFactories.REGISTRY.deserializeTag(tag.getTag("sublist"));
+            return new ValueTypeListProxyUniq<>(list);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import net.minecraft.nbt.NBTTagCompound;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxy;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxyFactoryTypeRegistry;
+import org.cyclops.integrateddynamics.core.evaluate.operator.Operators;
+
+/**
+ * A list that combines the elements of two lists pairwise by an operator.
+ * The list ends when one of both lists ends.
+ * @author rubensworks
+ */
+public class ValueTypeListProxyZipped extends ValueTypeListProxyLazy<IValueType<IValue>, IValue> {
+
+    private final IOperator operator;
+    private final IValueTypeListProxy listA;
+    private final IValueTypeListProxy listB;
+    private int listIndex = 0;
+
+    public ValueTypeListProxyZipped(IOperator operator, IValueTypeListProxy listA, IValueTypeListProxy listB) {
+        super(ValueTypeListProxyFactories.ZIPPED.getName(), operator.getOutputType());
+        this.operator = operator;
+        this.listA = listA;
+        this.listB = listB;
+    }
+
+    @Override
+    protected boolean pull() throws EvaluationException {
+        if (!listA.hasIndex(listIndex) || !listB.hasIndex(listIndex)) {
+            return false;
+        }
+        IValue a = listA.get(listIndex);
+        IValue b = listB.get(listIndex);
+        listIndex++;
+        emit(ValueHelpers.evaluateOperator(operator, a, b));
+        return true;
+    }
+
+    @Override
+    public boolean isInfinite() {
+        return listA.isInfinite() && listB.isInfinite();
+    }
+
+    public static class Factory extends ValueTypeListProxyNBTFactorySimple<IValueType<IValue>, IValue, ValueTypeListProxyZipped> {
+
+        @Override
+        public String getName() {
+            return "zipped";
+        }
+
+        @Override
+        protected void serializeNbt(ValueTypeListProxyZipped value, NBTTagCompound tag) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException {
+            tag.setTag("operator", Operators.REGISTRY.serializeTag(value.operator));
+            tag.setTag("sublistA", ValueTypeListProxyFactories.REGISTRY.serializeTag(value.listA));
+            tag.setTag("sublistB", ValueTypeListProxyFactories.REGISTRY.serializeTag(value.listB));
+        }
+
+        @Override
+        protected ValueTypeListProxyZipped deserializeNbt(NBTTagCompound tag) throws IValueTypeListProxyFactoryTypeRegistry.SerializationException, EvaluationException {
+            IOperator operator = Operators.REGISTRY.deserializeTag(tag.getTag("operator"));
+            IValueTypeListProxy listA = ValueTypeListProxyFactories.REGISTRY.deserializeTag(tag.getTag("sublistA"));
+            IValueTypeListProxy listB = ValueTypeListProxyFactories.REGISTRY.deserializeTag(tag.getTag("sublistB"));
+            return new ValueTypeListProxyZipped(operator, listA, listB);
+        }
+    }
+}
@@ -93,6 +93,10 @@ public class ValueTypeLong extends ValueTypeBase<ValueTypeLong.ValueLong> implem
     @ToString
     public static class ValueLong extends ValueBase {
 
+        private static final int CACHE_LOW = -128;
+        private static final int CACHE_HIGH = 1024;
+        private static final ValueLong[] CACHE = new ValueLong[CACHE_HIGH - CACHE_LOW + 1];
+
         private final long value;
 
         private ValueLong(long value) {
@@ -101,6 +105,16 @@ public class ValueTypeLong extends ValueTypeBase<ValueTypeLong.ValueLong> implem
         }
 
         public static ValueLong of(long value) {
+            // Small values are interned, so that counters and comparators don't create garbage.
+            if (value >= CACHE_LOW && value <= CACHE_HIGH) {
+                int index = (int) value - CACHE_LOW;
+                ValueLong cached = CACHE[index];
+                if (cached == null) {
+                    cached = new ValueLong(value);
+                    CACHE[index] = cached;
+                }
+                return cached;
+            }
             return new ValueLong(value);
         }
 
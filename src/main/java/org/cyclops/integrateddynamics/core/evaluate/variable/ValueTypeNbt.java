@@ -3,6 +3,7 @@ package org.cyclops.integrateddynamics.core.evaluate.variable;
 import com.google.common.collect.Sets;
 import lombok.ToString;
 import net.minecraft.nbt.JsonToNBT;
+import net.minecraft.nbt.NBTBase;
 import net.minecraft.nbt.NBTException;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.text.TextFormatting;
@@ -49,6 +50,19 @@ public class ValueTypeNbt extends ValueTypeBase<ValueTypeNbt.ValueNbt> implement
         }
     }
 
+    @Override
+    public NBTTagCompound serializeTag(ValueNbt value) {
+        return value.getRawValue().copy();
+    }
+
+    @Override
+    public ValueNbt deserializeTag(NBTBase tag) {
+        if (tag instanceof NBTTagCompound) {
+            return ValueNbt.of(((NBTTagCompound) tag).copy());
+        }
+        return super.deserializeTag(tag);
+    }
+
     @Override
     public boolean isNull(ValueNbt a) {
         return a.getRawValue().getSize() == 0;
@@ -2,6 +2,7 @@ package org.cyclops.integrateddynamics.core.evaluate.variable;
 
 import com.google.common.collect.Lists;
 import lombok.ToString;
+import net.minecraft.nbt.NBTBase;
 import net.minecraft.util.text.TextFormatting;
 import org.apache.commons.lang3.StringUtils;
 import org.cyclops.cyclopscore.helper.Helpers;
@@ -61,6 +62,25 @@ public class ValueTypeOperator extends ValueTypeBase<ValueTypeOperator.ValueOper
         throw new IllegalArgumentException(String.format("Value \"%s\" could not be parsed to an operator.", value));
     }
 
+    @Override
+    public NBTBase serializeTag(ValueOperator value) {
+        return Operators.REGISTRY.serializeTag(value.getRawValue());
+    }
+
+    @Override
+    public ValueOperator deserializeTag(NBTBase tag) {
+        IOperator operator;
+        try {
+            operator = Operators.REGISTRY.deserializeTag(tag);
+        } catch (EvaluationException e) {
+            throw new IllegalArgumentException(e.getMessage());
+        }
+        if (operator != null) {
+            return ValueOperator.of(operator);
+        }
+        throw new IllegalArgumentException(String.format("Tag \"%s\" could not be parsed to an operator.", tag));
+    }
+
     @Override
     public void loadTooltip(List<String> lines, boolean appendOptionalInfo, @Nullable ValueOperator value) {
         super.loadTooltip(lines, appendOptionalInfo, value);
@@ -179,6 +199,11 @@ public class ValueTypeOperator extends ValueTypeBase<ValueTypeOperator.ValueOper
         public boolean equals(Object o) {
             return o instanceof ValueOperator && ((ValueOperator) o).value == this.value;
         }
+
+        @Override
+        public int hashCode() {
+            return getType().hashCode() + System.identityHashCode(value);
+        }
     }
 
 }
@@ -5,6 +5,8 @@ import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
 
+import javax.annotation.Nullable;
+
 /**
  * A default variable implementation.
  * @author rubensworks
@@ -32,4 +34,27 @@ public class Variable<V extends IValue> implements IVariable<V> {
     public V getValue() throws EvaluationException {
         return value;
     }
+
+    @Override
+    public long getVersion() {
+        return isStateful(type, value) ? VERSION_UNKNOWN : 0;
+    }
+
+    /**
+     * Check if values of the given type only reference a state that can change without the value changing,
+     * such as entities, in which case variables of that type can not track versions.
+     * @param type The value type.
+     * @param value The current value, or null if it has not been calculated yet.
+     * @return If the value refers to a changing state.
+     */
+    public static boolean isStateful(IValueType<?> type, @Nullable IValue value) {
+        IValueType valueType = type;
+        if(valueType == ValueTypes.LIST) {
+            if(value == null) {
+                return true;
+            }
+            valueType = ((ValueTypeList.ValueList) value).getRawValue().getValueType();
+        }
+        return valueType == ValueTypes.OBJECT_ENTITY || valueType.isCategory();
+    }
 }
@@ -181,9 +181,8 @@ public class CableHelpers {
                 sidesToUpdate.add(cableConnectionHit);
                 CableHelpers.updateConnectionsNeighbours(world, pos, sidesToUpdate);
 
-                // Reinit the networks for this block and the disconnected neighbour.
-                NetworkHelpers.initNetwork(world, pos);
-                NetworkHelpers.initNetwork(world, pos.offset(cableConnectionHit));
+                // Split the networks for this block and the disconnected neighbour.
+                NetworkHelpers.splitNetworks(world, Lists.newArrayList(pos, pos.offset(cableConnectionHit)));
                 return true;
             } else if (cableConnectionHit == null) {
                 // Reconnect cable side
@@ -203,9 +202,8 @@ public class CableHelpers {
                     sidesToUpdate.add(side);
                     CableHelpers.updateConnectionsNeighbours(world, pos, sidesToUpdate);
 
-                    // Reinit the networks for this block and the connected neighbour.
-                    NetworkHelpers.initNetwork(world, pos);
-                    NetworkHelpers.initNetwork(world, neighbourPos);
+                    // Join the networks for this block and the connected neighbour.
+                    NetworkHelpers.joinNetworks(world, pos);
                 }
                 return true;
             }
@@ -224,7 +222,7 @@ public class CableHelpers {
     public static void onCableAdded(World world, BlockPos pos, @Nullable EntityLivingBase placer) {
         CableHelpers.updateConnectionsNeighbours(world, pos, CableHelpers.ALL_SIDES);
         if(!world.isRemote) {
-            INetwork network = NetworkHelpers.initNetwork(world, pos);
+            INetwork network = NetworkHelpers.joinNetworks(world, pos);
             MinecraftForge.EVENT_BUS.post(new NetworkInitializedEvent(network, world, pos, placer));
         }
     }
@@ -275,11 +273,12 @@ public class CableHelpers {
     public static boolean onCableRemoved(World world, BlockPos pos, Collection<EnumFacing> sides) {
         updateConnectionsNeighbours(world, pos, sides);
         if (!world.isRemote) {
-            // Reinit neighbouring networks.
+            // Split the neighbouring networks.
+            List<BlockPos> sidePositions = Lists.newArrayListWithExpectedSize(sides.size());
             for(EnumFacing side : sides) {
-                BlockPos sidePos = pos.offset(side);
-                NetworkHelpers.initNetwork(world, sidePos);
+                sidePositions.add(pos.offset(side));
             }
+            NetworkHelpers.splitNetworks(world, sidePositions);
         }
         return true;
     }
@@ -0,0 +1,175 @@
+package org.cyclops.integrateddynamics.core.helper;
+
+import com.google.common.base.Predicate;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import net.minecraft.entity.Entity;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraftforge.event.entity.EntityJoinWorldEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import org.cyclops.integrateddynamics.GeneralConfig;
+
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A per-world cache of the entities in chunk sections, which is only valid for a single tick.
+ *
+ * Entity readers and operators that look for entities in overlapping areas within the same tick
+ * will only collect the entities of each chunk section once, after which each query only filters them.
+ * When an entity joins the world, only the section it is added to is collected again.
+ * Results are identical to {@link World#getEntitiesInAABBexcluding(Entity, AxisAlignedBB, Predicate)},
+ * including their order.
+ * @author rubensworks
+ */
+public class EntityQueryCache {
+
+    private static final EntityQueryCache _INSTANCE = new EntityQueryCache();
+    private static final Entity[] EMPTY_SECTION = new Entity[0];
+
+    private final Cache<World, WorldCache> worlds = CacheBuilder.newBuilder().weakKeys().build();
+
+    private EntityQueryCache() {
+
+    }
+
+    public static EntityQueryCache getInstance() {
+        return _INSTANCE;
+    }
+
+    /**
+     * Get all entities that intersect with the given box.
+     * @param world The world.
+     * @param excluded An optional entity to exclude.
+     * @param box The box to look in.
+     * @param predicate An optional predicate the entities must match.
+     * @return The entities.
+     */
+    public List<Entity> getEntitiesInAABBexcluding(World world, @Nullable Entity excluded, AxisAlignedBB box,
+                                                   @Nullable Predicate<? super Entity> predicate) {
+        if (!GeneralConfig.entityQueryCache || world.isRemote) {
+            return world.getEntitiesInAABBexcluding(excluded, box, predicate);
+        }
+        WorldCache worldCache = worlds.getIfPresent(world);
+        if (worldCache == null) {
+            worldCache = new WorldCache(world);
+            worlds.put(world, worldCache);
+        }
+        return worldCache.getEntitiesInAABBexcluding(excluded, box, predicate);
+    }
+
+    /**
+     * Remove all cached entities.
+     * This should be called at the end of each tick, so that no references to entities are kept.
+     */
+    public void clear() {
+        for (WorldCache worldCache : worlds.asMap().values()) {
+            worldCache.clear();
+        }
+    }
+
+    @SubscribeEvent
+    public void onEntityJoinWorld(EntityJoinWorldEvent event) {
+        if (!event.getWorld().isRemote) {
+            WorldCache worldCache = worlds.getIfPresent(event.getWorld());
+            if (worldCache != null) {
+                worldCache.onEntityJoin(event.getEntity());
+            }
+        }
+    }
+
+    protected static class WorldCache {
+
+        private final World world;
+        private final Map<Long, Entity[]> sections = Maps.newHashMap();
+        private long tick = -1;
+
+        public WorldCache(World world) {
+            this.world = world;
+        }
+
+        protected static long getSectionKey(int chunkX, int sectionY, int chunkZ) {
+            return ((long) chunkX & 0x3FFFFFFL) << 38 | ((long) chunkZ & 0x3FFFFFFL) << 12 | ((long) sectionY & 0xFFFL);
+        }
+
+        public void clear() {
+            sections.clear();
+        }
+
+        /**
+         * Forget the section the given entity is being added to, as this event is fired before it is added.
+         * @param entity The entity that joins the world.
+         */
+        public void onEntityJoin(Entity entity) {
+            if (!sections.isEmpty()) {
+                // Same section as Chunk#addEntity
+                int chunkX = MathHelper.floor(entity.posX / 16.0D);
+                int chunkZ = MathHelper.floor(entity.posZ / 16.0D);
+                int sectionY = MathHelper.clamp(MathHelper.floor(entity.posY / 16.0D), 0, 15);
+                sections.remove(getSectionKey(chunkX, sectionY, chunkZ));
+            }
+        }
+
+        protected Entity[] getSection(int chunkX, int sectionY, int chunkZ) {
+            long key = getSectionKey(chunkX, sectionY, chunkZ);
+            Entity[] entities = sections.get(key);
+            if (entities == null) {
+                Chunk chunk = world.getChunkProvider().getLoadedChunk(chunkX, chunkZ);
+                entities = chunk == null || chunk.getEntityLists()[sectionY].isEmpty() ? EMPTY_SECTION
+                        : chunk.getEntityLists()[sectionY].toArray(new Entity[chunk.getEntityLists()[sectionY].size()]);
+                sections.put(key, entities);
+            }
+            return entities;
+        }
+
+        public List<Entity> getEntitiesInAABBexcluding(@Nullable Entity excluded, AxisAlignedBB box,
+                                                       @Nullable Predicate<? super Entity> predicate) {
+            long currentTick = world.getTotalWorldTime();
+            if (currentTick != tick) {
+                tick = currentTick;
+                sections.clear();
+            }
+
+            // Same bounds as vanilla, so that entities that stick out of their section are found
+            int minChunkX = MathHelper.floor((box.minX - World.MAX_ENTITY_RADIUS) / 16.0D);
+            int maxChunkX = MathHelper.floor((box.maxX + World.MAX_ENTITY_RADIUS) / 16.0D);
+            int minChunkZ = MathHelper.floor((box.minZ - World.MAX_ENTITY_RADIUS) / 16.0D);
+            int maxChunkZ = MathHelper.floor((box.maxZ + World.MAX_ENTITY_RADIUS) / 16.0D);
+            int minSectionY = MathHelper.clamp(MathHelper.floor((box.minY - World.MAX_ENTITY_RADIUS) / 16.0D), 0, 15);
+            int maxSectionY = MathHelper.clamp(MathHelper.floor((box.maxY + World.MAX_ENTITY_RADIUS) / 16.0D), 0, 15);
+
+            List<Entity> result = Lists.newArrayList();
+            for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+                for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                    for (int sectionY = minSectionY; sectionY <= maxSectionY; sectionY++) {
+                        for (Entity entity : getSection(chunkX, sectionY, chunkZ)) {
+                            if (entity.getEntityBoundingBox().intersects(box) && entity != excluded) {
+                                if (predicate == null || predicate.apply(entity)) {
+                                    result.add(entity);
+                                }
+                                Entity[] parts = entity.getParts();
+                                if (parts != null) {
+                                    for (Entity part : parts) {
+                                        if (part != excluded && part.getEntityBoundingBox().intersects(box)
+                                                && (predicate == null || predicate.apply(part))) {
+                                            result.add(part);
+                                        }
+                                    }
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+            return result;
+        }
+
+    }
+
+}
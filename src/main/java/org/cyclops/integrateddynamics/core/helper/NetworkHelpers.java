@@ -1,11 +1,15 @@
 package org.cyclops.integrateddynamics.core.helper;
 
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.IBlockAccess;
 import net.minecraft.world.World;
+import org.cyclops.cyclopscore.datastructure.DimPos;
 import org.cyclops.cyclopscore.helper.TileHelpers;
+import org.cyclops.integrateddynamics.GeneralConfig;
 import org.cyclops.integrateddynamics.api.network.*;
 import org.cyclops.integrateddynamics.api.path.IPathElement;
 import org.cyclops.integrateddynamics.capability.network.EnergyNetworkConfig;
@@ -14,8 +18,13 @@ import org.cyclops.integrateddynamics.capability.network.PartNetworkConfig;
 import org.cyclops.integrateddynamics.capability.networkelementprovider.NetworkElementProviderConfig;
 import org.cyclops.integrateddynamics.capability.path.PathElementConfig;
 import org.cyclops.integrateddynamics.core.network.Network;
+import org.cyclops.integrateddynamics.core.path.Cluster;
+import org.cyclops.integrateddynamics.core.path.PathFinder;
 
 import javax.annotation.Nullable;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 
 /**
  * Network helper methods.
@@ -97,6 +106,123 @@ public class NetworkHelpers {
         return null;
     }
 
+    /**
+     * Update the networks after the path element at the given position has been added or connected to its neighbours.
+     * If {@link GeneralConfig#incrementalNetworkTopology} is enabled,
+     * the path element is added to the largest neighbouring network, and all other neighbouring networks are merged
+     * into that network, without rebuilding it.
+     * Otherwise, this is equivalent to {@link #initNetwork(World, BlockPos)}.
+     * @param world The world.
+     * @param pos The position of the path element.
+     * @return The network the path element is part of afterwards.
+     * Can be null if the position did not have a {@link IPathElement} capability.
+     */
+    public static @Nullable INetwork joinNetworks(World world, BlockPos pos) {
+        IPathElement pathElement = TileHelpers.getCapability(world, pos, null, PathElementConfig.CAPABILITY);
+        if (pathElement == null || !GeneralConfig.incrementalNetworkTopology) {
+            return initNetwork(world, pos);
+        }
+
+        // Collect the networks that the path element will connect.
+        Set<Network> networks = Sets.newIdentityHashSet();
+        Network ownNetwork = getCoreNetwork(pathElement);
+        if (ownNetwork != null) {
+            networks.add(ownNetwork);
+        }
+        for (IPathElement neighbour : pathElement.getReachableElements()) {
+            Network network = getCoreNetwork(neighbour);
+            if (network == null) {
+                // Neighbours without a valid network require a full network setup.
+                return initNetwork(world, pos);
+            }
+            networks.add(network);
+        }
+        if (networks.isEmpty()) {
+            return initNetwork(world, pos);
+        }
+
+        Network largest = null;
+        for (Network network : networks) {
+            if (largest == null || network.getCablesCount() > largest.getCablesCount()) {
+                largest = network;
+            }
+        }
+        for (Network network : networks) {
+            if (network != largest) {
+                largest.absorb(network);
+            }
+        }
+        largest.addPathElement(pathElement);
+        return largest;
+    }
+
+    /**
+     * Update the networks after connections between the path elements at the given positions have been removed.
+     * If {@link GeneralConfig#incrementalNetworkTopology} is enabled,
+     * only the path elements that became disconnected from the largest part of their network are moved into new networks.
+     * Otherwise, this is equivalent to calling {@link #initNetwork(World, BlockPos)} for all positions.
+     * @param world The world.
+     * @param positions The positions of path elements that were connected before.
+     */
+    public static void splitNetworks(World world, Collection<BlockPos> positions) {
+        List<DimPos> dimPositions = Lists.newArrayListWithExpectedSize(positions.size());
+        for (BlockPos pos : positions) {
+            dimPositions.add(DimPos.of(world, pos));
+        }
+        splitNetworks(dimPositions);
+    }
+
+    /**
+     * Update the networks after connections between the path elements at the given positions have been removed.
+     * The positions may be located in different dimensions,
+     * positions that are not loaded are ignored.
+     * @param positions The positions of path elements that were connected before.
+     * @see #splitNetworks(World, Collection)
+     */
+    public static void splitNetworks(Collection<DimPos> positions) {
+        List<IPathElement> pathElements = Lists.newArrayList();
+        Network network = null;
+        boolean incremental = GeneralConfig.incrementalNetworkTopology;
+        for (DimPos pos : positions) {
+            IPathElement pathElement = pos.isLoaded()
+                    ? TileHelpers.getCapability(pos, null, PathElementConfig.CAPABILITY) : null;
+            if (pathElement != null) {
+                Network pathNetwork = getCoreNetwork(pathElement);
+                // All path elements must have been part of the same network.
+                if (pathNetwork == null || (network != null && network != pathNetwork)) {
+                    incremental = false;
+                }
+                network = pathNetwork;
+                pathElements.add(pathElement);
+            }
+        }
+        if (!incremental) {
+            for (DimPos pos : positions) {
+                if (pos.isLoaded()) {
+                    initNetwork(pos.getWorld(), pos.getBlockPos());
+                }
+            }
+            return;
+        }
+        for (Cluster cluster : PathFinder.getDetachedClusters(pathElements)) {
+            Network.initiateNetworkSetup(cluster).initialize();
+        }
+    }
+
+    /**
+     * @param pathElement A path element.
+     * @return The initialized core network the given path element is part of, or null.
+     */
+    protected static @Nullable Network getCoreNetwork(IPathElement pathElement) {
+        INetworkCarrier networkCarrier = getNetworkCarrier(pathElement.getPosition().getWorld(),
+                pathElement.getPosition().getBlockPos());
+        INetwork network = networkCarrier != null ? networkCarrier.getNetwork() : null;
+        if (network instanceof Network && network.isInitialized() && !network.isKilled()) {
+            return (Network) network;
+        }
+        return null;
+    }
+
     /**
      * This MUST be called by blocks having the {@link INetworkElementProvider} capability in
      * when a neighbouring block is updated, more specifically when
@@ -6,7 +6,9 @@ import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.init.Blocks;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTBase;
 import net.minecraft.nbt.NBTTagList;
+import net.minecraft.nbt.NBTTagString;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.IBlockAccess;
@@ -342,6 +344,66 @@ public class PartHelpers {
         return null;
     }
 
+    /**
+     * Send the changed client-side fields of the part at the given position to all players watching it.
+     * @param partPos The part position.
+     */
+    public static void syncPartToClients(PartPos partPos) {
+        IPartContainer partContainer = PartHelpers.getPartContainer(partPos.getPos());
+        if (partContainer != null) {
+            partContainer.syncPartToClients(partPos.getSide());
+        }
+    }
+
+    /**
+     * Create the difference between two tags.
+     * Only the top-level keys are compared, changed keys are included with their full new value.
+     * @param previous The previous tag, can be null if nothing was sent before.
+     * @param current The current tag.
+     * @return The delta, or null if both tags are equal.
+     */
+    public static @Nullable NBTTagCompound createNbtDelta(@Nullable NBTTagCompound previous, NBTTagCompound current) {
+        NBTTagCompound changed = new NBTTagCompound();
+        for (String key : current.getKeySet()) {
+            NBTBase value = current.getTag(key);
+            if (previous == null || !value.equals(previous.getTag(key))) {
+                changed.setTag(key, value.copy());
+            }
+        }
+        NBTTagList removed = new NBTTagList();
+        if (previous != null) {
+            for (String key : previous.getKeySet()) {
+                if (!current.hasKey(key)) {
+                    removed.appendTag(new NBTTagString(key));
+                }
+            }
+        }
+        if (changed.hasNoTags() && removed.hasNoTags()) {
+            return null;
+        }
+        NBTTagCompound delta = new NBTTagCompound();
+        delta.setTag("changed", changed);
+        delta.setTag("removed", removed);
+        return delta;
+    }
+
+    /**
+     * Apply a delta that was created with {@link #createNbtDelta(NBTTagCompound, NBTTagCompound)} to the given tag.
+     * @param tag The tag to modify.
+     * @param delta The delta.
+     */
+    public static void applyNbtDelta(NBTTagCompound tag, NBTTagCompound delta) {
+        NBTTagList removed = delta.getTagList("removed", MinecraftHelpers.NBTTag_Types.NBTTagString.ordinal());
+        for (int i = 0; i < removed.tagCount(); i++) {
+            tag.removeTag(removed.getStringTagAt(i));
+        }
+        NBTTagCompound changed = delta.getCompoundTag("changed");
+        for (String key : changed.getKeySet()) {
+            // Replace instead of merging, so that removed nested keys do not remain.
+            tag.setTag(key, changed.getTag(key).copy());
+        }
+    }
+
     /**
      * A part and state holder.
      * @param <P> The part type type.
@@ -9,6 +9,7 @@ import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 import org.cyclops.cyclopscore.datastructure.Wrapper;
 import org.cyclops.cyclopscore.helper.L10NHelpers;
+import org.cyclops.integrateddynamics.GeneralConfig;
 import org.cyclops.integrateddynamics.api.client.model.IVariableModelBaked;
 import org.cyclops.integrateddynamics.api.evaluate.expression.IExpression;
 import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
@@ -19,6 +20,7 @@ import org.cyclops.integrateddynamics.api.item.IOperatorVariableFacade;
 import org.cyclops.integrateddynamics.api.item.IVariableFacade;
 import org.cyclops.integrateddynamics.api.network.IPartNetwork;
 import org.cyclops.integrateddynamics.core.client.model.VariableModelProviders;
+import org.cyclops.integrateddynamics.core.evaluate.expression.ExpressionCompiler;
 import org.cyclops.integrateddynamics.core.evaluate.expression.LazyExpression;
 import org.cyclops.integrateddynamics.core.evaluate.variable.ValueHelpers;
 import org.cyclops.integrateddynamics.core.helper.L10NValues;
@@ -27,6 +29,9 @@ import java.util.List;
 
 /**
  * Variable facade for variables determined for operators based on other variables in the network determined by their id.
+ *
+ * The resulting expression is only created again when the network changes,
+ * or when one of the variables it depends on is bound to another variable.
  * @author rubensworks
  */
 @EqualsAndHashCode(callSuper = true)
@@ -37,6 +42,8 @@ public class OperatorVariableFacade extends VariableFacadeBase implements IOpera
     private final int[] variableIds;
     private IExpression expression = null;
     private int lastNetworkHash = -1;
+    private IVariable[] boundVariables = null;
+    private long lastVariableFacadesVersion = -1;
 
     // Flags to detect infinite recursion
     private final boolean[] validatingVariables;
@@ -61,28 +68,78 @@ public class OperatorVariableFacade extends VariableFacadeBase implements IOpera
             int newNetworkHash = network != null ? network.hashCode() : -1;
             if(expression == null || expression.hasErrored() || newNetworkHash != this.lastNetworkHash) {
                 this.lastNetworkHash = newNetworkHash;
-                IVariable[] variables = new IVariable[variableIds.length];
-                for (int i = 0; i < variableIds.length; i++) {
-                    int variableId = variableIds[i];
-                    if (!network.hasVariableFacade(variableId)) {
-                        return null;
-                    }
-                    IVariableFacade variableFacade = network.getVariableFacade(variableId);
-                    if(!variableFacade.isValid() || variableFacade == this) {
-                        return null;
-                    }
-                    variables[i] = variableFacade.getVariable(network);
-                    if(variables[i] == this /* Cyclic reference */ || variables[i] == null) {
-                        return null;
-                    }
+                if (!resolveExpression(network)) {
+                    expression = null;
+                    return null;
+                }
+            } else if (network.getVariableFacadesVersion() != this.lastVariableFacadesVersion) {
+                // Only re-resolve if the variables that this operator depends on have changed.
+                IVariable[] variables = resolveVariables(network);
+                if (variables == null) {
+                    expression = null;
+                    return null;
+                }
+                if (!areSameVariables(variables, this.boundVariables)) {
+                    createExpression(network, variables);
                 }
-                expression = new LazyExpression(getId(), operator, variables, network);
             }
             return expression;
         }
         return null;
     }
 
+    /**
+     * Resolve the variables of all variable ids this operator depends on.
+     * @param network The network.
+     * @return The variables, or null if one of them could not be resolved.
+     */
+    protected IVariable[] resolveVariables(IPartNetwork network) {
+        this.lastVariableFacadesVersion = network.getVariableFacadesVersion();
+        IVariable[] variables = new IVariable[variableIds.length];
+        for (int i = 0; i < variableIds.length; i++) {
+            int variableId = variableIds[i];
+            if (!network.hasVariableFacade(variableId)) {
+                return null;
+            }
+            IVariableFacade variableFacade = network.getVariableFacade(variableId);
+            if(!variableFacade.isValid() || variableFacade == this) {
+                return null;
+            }
+            variables[i] = variableFacade.getVariable(network);
+            if(variables[i] == this /* Cyclic reference */ || variables[i] == null) {
+                return null;
+            }
+        }
+        return variables;
+    }
+
+    protected static boolean areSameVariables(IVariable[] a, IVariable[] b) {
+        if (b == null || a.length != b.length) {
+            return false;
+        }
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] != b[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    protected boolean resolveExpression(IPartNetwork network) {
+        IVariable[] variables = resolveVariables(network);
+        if (variables == null) {
+            return false;
+        }
+        createExpression(network, variables);
+        return true;
+    }
+
+    protected void createExpression(IPartNetwork network, IVariable[] variables) {
+        this.boundVariables = variables;
+        LazyExpression lazyExpression = new LazyExpression(getId(), operator, variables, network);
+        expression = GeneralConfig.compileExpressions ? ExpressionCompiler.compile(lazyExpression) : lazyExpression;
+    }
+
     @Override
     public boolean isValid() {
         return getVariableIds() != null && getOperator() != null;
@@ -8,9 +8,16 @@ import org.cyclops.integrateddynamics.api.network.*;
 import org.cyclops.integrateddynamics.api.part.PartPos;
 import org.cyclops.integrateddynamics.api.path.IPathElement;
 import org.cyclops.integrateddynamics.core.helper.EnergyHelpers;
+import org.cyclops.integrateddynamics.core.network.diagnostics.NetworkProfiler;
 
 /**
  * A network that can hold energy.
+ *
+ * The energy that is consumed by updating network elements is accounted per tick:
+ * the available energy is determined with a single pass over the batteries,
+ * after which the consumption of all updated elements is summed and extracted in bulk.
+ * Pending consumption is extracted before any other energy transfer or battery change,
+ * so that it can never be observed.
  * @author rubensworks
  */
 public class EnergyNetwork extends PositionedAddonsNetwork implements IEnergyNetwork, IFullNetworkListener {
@@ -19,6 +26,11 @@ public class EnergyNetwork extends PositionedAddonsNetwork implements IEnergyNet
     @Setter
     private INetwork network;
 
+    private int tickAvailable = -1;
+    private int tickConsumed = 0;
+    private int energyStoredCache = -1;
+    private int maxEnergyStoredCache = -1;
+
     @Override
     public boolean addNetworkElement(INetworkElement element, boolean networkPreinit) {
         return true;
@@ -36,12 +48,13 @@ public class EnergyNetwork extends PositionedAddonsNetwork implements IEnergyNet
 
     @Override
     public void kill() {
-
+        flushConsumption();
     }
 
     @Override
     public void update() {
-
+        flushConsumption();
+        invalidateCaches();
     }
 
     @Override
@@ -56,7 +69,7 @@ public class EnergyNetwork extends PositionedAddonsNetwork implements IEnergyNet
 
     @Override
     public void beforeServerStop() {
-
+        flushConsumption();
     }
 
     @Override
@@ -65,12 +78,15 @@ public class EnergyNetwork extends PositionedAddonsNetwork implements IEnergyNet
         int multiplier = GeneralConfig.energyConsumptionMultiplier;
         if(multiplier == 0) return true;
         int consumptionRate = ((IEnergyConsumingNetworkElement) element).getConsumptionRate() * multiplier;
-        return extractEnergy(consumptionRate, true) == consumptionRate;
+        return consumptionRate <= GeneralConfig.energyRateLimit && consumptionRate <= getTickAvailable() - tickConsumed;
     }
 
     @Override
     public void onSkipUpdate(INetworkElement element) {
         if(element instanceof IEnergyConsumingNetworkElement) {
+            if (GeneralConfig.energyConsumptionMultiplier > 0 && NetworkProfiler.getInstance().isEnabled()) {
+                NetworkProfiler.getInstance().onEnergyStarved(getNetwork(), element);
+            }
             ((IEnergyConsumingNetworkElement) element).postUpdate(getNetwork(), false);
         }
     }
@@ -81,7 +97,7 @@ public class EnergyNetwork extends PositionedAddonsNetwork implements IEnergyNet
             int multiplier = GeneralConfig.energyConsumptionMultiplier;
             if (multiplier > 0) {
                 int consumptionRate = ((IEnergyConsumingNetworkElement) element).getConsumptionRate() * multiplier;
-                extractEnergy(consumptionRate, false);
+                tickConsumed = addSafe(tickConsumed, consumptionRate);
             }
             ((IEnergyConsumingNetworkElement) element).postUpdate(getNetwork(), true);
         }
@@ -93,8 +109,48 @@ public class EnergyNetwork extends PositionedAddonsNetwork implements IEnergyNet
         return add;
     }
 
+    /**
+     * Extract the energy that was consumed by updated elements since the last call.
+     */
+    protected void flushConsumption() {
+        if (tickConsumed > 0) {
+            int consumed = tickConsumed;
+            tickConsumed = 0;
+            extractEnergyUnlimited(consumed, false);
+            tickAvailable = tickAvailable < 0 ? -1 : Math.max(0, tickAvailable - consumed);
+            energyStoredCache = -1;
+        }
+    }
+
+    /**
+     * Forget the cached energy amounts, so that they are recalculated when needed.
+     */
+    protected void invalidateCaches() {
+        tickAvailable = -1;
+        energyStoredCache = -1;
+        maxEnergyStoredCache = -1;
+    }
+
+    /**
+     * @return The energy that can be extracted from the batteries in this tick, including pending consumption.
+     */
+    protected int getTickAvailable() {
+        if (tickAvailable < 0) {
+            tickAvailable = extractEnergyUnlimited(Integer.MAX_VALUE, true);
+        }
+        return tickAvailable;
+    }
+
     @Override
     public int getEnergyStored() {
+        flushConsumption();
+        if (energyStoredCache < 0) {
+            energyStoredCache = calculateEnergyStored();
+        }
+        return energyStoredCache;
+    }
+
+    protected int calculateEnergyStored() {
         int energy = 0;
         for(PrioritizedPartPos partPos : getPositions()) {
             IEnergyStorage energyStorage = getEnergyStorage(partPos);
@@ -109,6 +165,13 @@ public class EnergyNetwork extends PositionedAddonsNetwork implements IEnergyNet
 
     @Override
     public int getMaxEnergyStored() {
+        if (maxEnergyStoredCache < 0) {
+            maxEnergyStoredCache = calculateMaxEnergyStored();
+        }
+        return maxEnergyStoredCache;
+    }
+
+    protected int calculateMaxEnergyStored() {
         int maxEnergy = 0;
         for(PrioritizedPartPos partPos : getPositions()) {
             IEnergyStorage energyStorage = getEnergyStorage(partPos);
@@ -133,9 +196,10 @@ public class EnergyNetwork extends PositionedAddonsNetwork implements IEnergyNet
 
     @Override
     public int receiveEnergy(int energy, boolean simulate) {
+        flushConsumption();
         energy = Math.min(energy, GeneralConfig.energyRateLimit);
         int toAdd = energy;
-        for(PrioritizedPartPos partPos : getPositions()) {
+        for(PrioritizedPartPos partPos : getPrioritizedPositions()) {
             IEnergyStorage energyStorage = getEnergyStorage(partPos);
             if (energyStorage != null) {
                 disablePosition(partPos.getPartPos());
@@ -143,14 +207,30 @@ public class EnergyNetwork extends PositionedAddonsNetwork implements IEnergyNet
                 enablePosition(partPos.getPartPos());
             }
         }
+        if (!simulate) {
+            rotatePrioritizedPositions();
+            if (toAdd < energy) {
+                invalidateCaches();
+            }
+        }
         return energy - toAdd;
     }
 
     @Override
     public int extractEnergy(int energy, boolean simulate) {
-        energy = Math.min(energy, GeneralConfig.energyRateLimit);
+        flushConsumption();
+        return extractEnergyUnlimited(Math.min(energy, GeneralConfig.energyRateLimit), simulate);
+    }
+
+    /**
+     * Extract energy from the batteries, without taking into account the rate limit.
+     * @param energy The energy to extract.
+     * @param simulate If the extraction should be simulated.
+     * @return The extracted energy.
+     */
+    protected int extractEnergyUnlimited(int energy, boolean simulate) {
         int toConsume = energy;
-        for(PrioritizedPartPos partPos : getPositions()) {
+        for(PrioritizedPartPos partPos : getPrioritizedPositions()) {
             IEnergyStorage energyStorage = getEnergyStorage(partPos);
             if (energyStorage != null) {
                 disablePosition(partPos.getPartPos());
@@ -158,13 +238,33 @@ public class EnergyNetwork extends PositionedAddonsNetwork implements IEnergyNet
                 enablePosition(partPos.getPartPos());
             }
         }
+        if (!simulate) {
+            rotatePrioritizedPositions();
+            if (toConsume < energy) {
+                energyStoredCache = -1;
+            }
+        }
         return energy - toConsume;
     }
 
     @Override
     public boolean addPosition(PartPos pos, int priority) {
         IEnergyStorage energyStorage = EnergyHelpers.getEnergyStorage(pos);
-        return energyStorage != null && super.addPosition(pos, priority);
+        if (energyStorage != null) {
+            flushConsumption();
+            if (super.addPosition(pos, priority)) {
+                invalidateCaches();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void removePosition(PartPos pos) {
+        flushConsumption();
+        super.removePosition(pos);
+        invalidateCaches();
     }
 
     @Override
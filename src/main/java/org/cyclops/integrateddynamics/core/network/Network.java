@@ -5,12 +5,17 @@ import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
+import net.minecraftforge.common.DimensionManager;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.capabilities.CapabilityDispatcher;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.Level;
+import org.cyclops.cyclopscore.datastructure.DimPos;
 import org.cyclops.cyclopscore.helper.TileHelpers;
+import org.cyclops.integrateddynamics.GeneralConfig;
 import org.cyclops.integrateddynamics.IntegratedDynamics;
 import org.cyclops.integrateddynamics.api.PartStateException;
 import org.cyclops.integrateddynamics.api.network.*;
@@ -19,7 +24,9 @@ import org.cyclops.integrateddynamics.api.network.event.INetworkEventBus;
 import org.cyclops.integrateddynamics.api.path.IPathElement;
 import org.cyclops.integrateddynamics.capability.network.NetworkCarrierConfig;
 import org.cyclops.integrateddynamics.capability.networkelementprovider.NetworkElementProviderConfig;
+import org.cyclops.integrateddynamics.core.ChunkHandler;
 import org.cyclops.integrateddynamics.core.network.diagnostics.NetworkDiagnostics;
+import org.cyclops.integrateddynamics.core.network.diagnostics.NetworkProfiler;
 import org.cyclops.integrateddynamics.core.network.event.NetworkElementAddEvent;
 import org.cyclops.integrateddynamics.core.network.event.NetworkElementRemoveEvent;
 import org.cyclops.integrateddynamics.core.network.event.NetworkEventBus;
@@ -28,6 +35,7 @@ import org.cyclops.integrateddynamics.core.path.PathFinder;
 import org.cyclops.integrateddynamics.core.persist.world.NetworkWorldStorage;
 
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * A network instance that can hold a set of {@link INetworkElement}s.
@@ -41,9 +49,12 @@ public class Network implements INetwork {
     private final INetworkEventBus eventBus = new NetworkEventBus();
     private final TreeSet<INetworkElement> elements = Sets.newTreeSet();
     private TreeSet<INetworkElement> updateableElements = null;
-    private TreeMap<INetworkElement, Integer> updateableElementsTicks = null;
+    private TickWheel<INetworkElement> updateableElementsTicks = null;
     private TreeSet<INetworkElement> invalidatedElements = Sets.newTreeSet();
     private Map<INetworkElement, Long> lastSecondDurations = Maps.newHashMap();
+    private Set<Pair<Integer, ChunkPos>> chunks = null;
+    private boolean hibernating = false;
+    private boolean hibernationCheckNeeded = true;
 
     private final CapabilityDispatcher capabilityDispatcher;
     private IFullNetworkListener[] fullNetworkListeners;
@@ -59,7 +70,16 @@ public class Network implements INetwork {
      * @return The newly formed network.
      */
     public static Network initiateNetworkSetup(IPathElement pathElement) {
-        Network network = new Network(PathFinder.getConnectedCluster(pathElement));
+        return initiateNetworkSetup(PathFinder.getConnectedCluster(pathElement));
+    }
+
+    /**
+     * Initiate a full network from the given cluster.
+     * @param cluster The connected path elements.
+     * @return The newly formed network.
+     */
+    public static Network initiateNetworkSetup(Cluster cluster) {
+        Network network = new Network(cluster);
         NetworkWorldStorage.getInstance(IntegratedDynamics._instance).addNewNetwork(network);
         return network;
     }
@@ -227,7 +247,7 @@ public class Network implements INetwork {
     public void addNetworkElementUpdateable(INetworkElement element) {
         if(element.isUpdate()) {
             updateableElements.add(element);
-            updateableElementsTicks.put(element, 0);
+            updateableElementsTicks.schedule(element, 1);
         }
     }
 
@@ -244,7 +264,7 @@ public class Network implements INetwork {
     @Override
     public synchronized void setPriority(INetworkElement element, int priority) {
         elements.remove(element);
-        Integer oldTickValue = null;
+        int oldTickValue = -1;
         if (element.isUpdate()) {
             updateableElements.remove(element);
             oldTickValue = updateableElementsTicks.remove(element);
@@ -255,8 +275,8 @@ public class Network implements INetwork {
         elements.add(element);
         if (element.isUpdate()) {
             updateableElements.add(element);
-            if (oldTickValue != null) {
-                updateableElementsTicks.put(element, oldTickValue);
+            if (oldTickValue >= 0) {
+                updateableElementsTicks.schedule(element, oldTickValue);
             }
         }
     }
@@ -293,7 +313,7 @@ public class Network implements INetwork {
      */
     protected void initialize(boolean silent) {
         updateableElements = Sets.newTreeSet();
-        updateableElementsTicks = Maps.newTreeMap();
+        updateableElementsTicks = new TickWheel<>();
         for(INetworkElement element : elements) {
             addNetworkElementUpdateable(element);
             if(!silent) {
@@ -312,6 +332,9 @@ public class Network implements INetwork {
             element.beforeNetworkKill(this);
         }
         killed = true;
+        if (chunks != null) {
+            ChunkHandler.getInstance().removeNetworkChunks(this, chunks);
+        }
     }
 
     @Override
@@ -358,32 +381,42 @@ public class Network implements INetwork {
 
             // Update updateable network elements
             boolean isBeingDiagnozed = NetworkDiagnostics.getInstance().isBeingDiagnozed();
+            NetworkProfiler profiler = NetworkProfiler.getInstance();
+            boolean isProfiling = profiler.isEnabled();
+            int sampleInterval = GeneralConfig.profilingSampleInterval;
             if (!isBeingDiagnozed && !lastSecondDurations.isEmpty()) {
                 // Make sure we aren't using any unnecessary memory.
                 lastSecondDurations.clear();
             }
-            for (INetworkElement element : updateableElements) {
+            // Only the elements that are due in this tick are taken from the wheel, in priority order.
+            for (INetworkElement element : updateableElementsTicks.advance()) {
+                // Elements that are invalid or can not update yet are retried in the next tick.
+                int nextTick = 1;
                 try {
                     if (isValid(element)) {
+                        // Sample randomly, since elements are always updated in the same order.
+                        boolean isSampled = isProfiling && ThreadLocalRandom.current().nextInt(sampleInterval) == 0;
                         long startTime = 0;
-                        if (isBeingDiagnozed) {
+                        if (isBeingDiagnozed || isSampled) {
                             startTime = System.nanoTime();
                         }
-                        int lastElementTick = updateableElementsTicks.getOrDefault(element, 0);
-                        if (canUpdate(element)) {
-                            if (lastElementTick <= 0) {
-                                updateableElementsTicks.put(element, element.getUpdateInterval() - 1);
-                                element.update(this);
-                                postUpdate(element);
-                            } else {
-                                updateableElementsTicks.put(element, lastElementTick - 1);
-                            }
+                        boolean updated = canUpdate(element);
+                        if (updated) {
+                            nextTick = element.getUpdateInterval();
+                            element.update(this);
+                            postUpdate(element);
                         } else {
                             onSkipUpdate(element);
-                            updateableElementsTicks.put(element, lastElementTick - 1);
+                        }
+                        long duration = isBeingDiagnozed || isSampled ? System.nanoTime() - startTime : -1;
+                        if (isProfiling) {
+                            if (updated) {
+                                profiler.onUpdate(this, element, isSampled ? duration : -1);
+                            } else {
+                                profiler.onSkip(this, element);
+                            }
                         }
                         if (isBeingDiagnozed) {
-                            long duration = System.nanoTime() - startTime;
                             Long lastDuration = lastSecondDurations.get(element);
                             if (lastDuration != null) {
                                 duration = duration + lastDuration;
@@ -398,7 +431,14 @@ public class Network implements INetwork {
                     e.printStackTrace();
                     element.invalidate(this);
                 }
+                // The element may have been removed or rescheduled during its update.
+                if (updateableElements.contains(element) && !updateableElementsTicks.contains(element)) {
+                    updateableElementsTicks.schedule(element, nextTick);
+                }
             }
+
+            // Deliver the events that were merged during this tick
+            getEventBus().flushCoalescedEvents();
         }
     }
 
@@ -441,6 +481,50 @@ public class Network implements INetwork {
         return false;
     }
 
+    /**
+     * Add a path element to this initialized network, together with the network elements it provides.
+     * If the path element was part of another network, it will be removed from that network first.
+     * @param pathElement The path element to add.
+     */
+    public synchronized void addPathElement(IPathElement pathElement) {
+        World world = pathElement.getPosition().getWorld();
+        BlockPos pos = pathElement.getPosition().getBlockPos();
+        INetworkCarrier networkCarrier = TileHelpers.getCapability(
+                world, pos, null, NetworkCarrierConfig.CAPABILITY);
+        if (networkCarrier != null) {
+            INetwork network = networkCarrier.getNetwork();
+            if (network != null && network != this) {
+                network.removePathElement(pathElement);
+            }
+            networkCarrier.setNetwork(null);
+            networkCarrier.setNetwork(this);
+        }
+        if (baseCluster.add(pathElement)) {
+            INetworkElementProvider networkElementProvider = TileHelpers.getCapability(
+                    pathElement.getPosition(), null, NetworkElementProviderConfig.CAPABILITY);
+            if (networkElementProvider != null) {
+                for (INetworkElement element : networkElementProvider.createNetworkElements(world, pos)) {
+                    if (addNetworkElement(element, false)) {
+                        element.afterNetworkAlive(this);
+                        element.afterNetworkReAlive(this);
+                    }
+                }
+            }
+            onNetworkChanged();
+        }
+    }
+
+    /**
+     * Move all path elements of the given network into this network.
+     * The given network will be empty afterwards.
+     * @param network The network to absorb.
+     */
+    public synchronized void absorb(Network network) {
+        for (IPathElement pathElement : Lists.newArrayList(network.baseCluster)) {
+            addPathElement(pathElement);
+        }
+    }
+
     @Override
     public void afterServerLoad() {
         for (IFullNetworkListener fullNetworkListener : this.fullNetworkListeners) {
@@ -472,6 +556,11 @@ public class Network implements INetwork {
 
     protected void onNetworkChanged() {
         this.changed = true;
+        if (this.chunks != null) {
+            ChunkHandler.getInstance().removeNetworkChunks(this, this.chunks);
+            this.chunks = null;
+        }
+        this.hibernationCheckNeeded = true;
     }
 
     @Override
@@ -525,6 +614,70 @@ public class Network implements INetwork {
         invalidatedElements.remove(element);
     }
 
+    /**
+     * @return The chunks of all path elements in this network, as pairs of dimension id and chunk position.
+     */
+    protected Set<Pair<Integer, ChunkPos>> getChunks() {
+        if (chunks == null) {
+            Set<Pair<Integer, ChunkPos>> chunks = Sets.newHashSet();
+            for (IPathElement pathElement : baseCluster) {
+                DimPos pos = pathElement.getPosition();
+                chunks.add(Pair.of(pos.getDimensionId(), new ChunkPos(pos.getBlockPos())));
+            }
+            this.chunks = chunks;
+            if (!killed) {
+                ChunkHandler.getInstance().addNetworkChunks(this, chunks);
+            }
+        }
+        return chunks;
+    }
+
+    /**
+     * @return If this network spans at least one chunk, and all of its chunks are unloaded.
+     */
+    protected boolean areAllChunksUnloaded() {
+        Set<Pair<Integer, ChunkPos>> chunks = getChunks();
+        if (chunks.isEmpty()) {
+            // Empty networks must still be updated so that they can be killed.
+            return false;
+        }
+        for (Pair<Integer, ChunkPos> chunk : chunks) {
+            World world = DimensionManager.getWorld(chunk.getLeft());
+            if (world != null && world.getChunkProvider().getLoadedChunk(chunk.getRight().x, chunk.getRight().z) != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean isHibernating() {
+        if (!GeneralConfig.networkHibernation) {
+            return false;
+        }
+        if (hibernationCheckNeeded) {
+            hibernationCheckNeeded = false;
+            hibernating = areAllChunksUnloaded();
+        }
+        if (hibernating) {
+            // Events are not delivered in unloaded chunks, the elements read the current state again after waking up.
+            getEventBus().clearCoalescedEvents();
+        }
+        return hibernating;
+    }
+
+    @Override
+    public void onChunkChanged(int dimension, ChunkPos chunk, boolean loaded) {
+        if (getChunks().contains(Pair.of(dimension, chunk))) {
+            if (loaded) {
+                hibernating = false;
+            } else {
+                // The chunk is only removed after this event, so check again in the next tick.
+                hibernationCheckNeeded = true;
+            }
+        }
+    }
+
     protected boolean isValid(INetworkElement element) {
         if (invalidatedElements.contains(element)) {
             if (element.canRevalidate(this)) {
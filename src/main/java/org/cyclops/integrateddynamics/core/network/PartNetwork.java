@@ -1,12 +1,12 @@
 package org.cyclops.integrateddynamics.core.network;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import gnu.trove.map.TIntObjectMap;
 import gnu.trove.map.hash.TIntObjectHashMap;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.logging.log4j.Level;
-import org.cyclops.cyclopscore.datastructure.CompositeMap;
 import org.cyclops.cyclopscore.datastructure.DimPos;
 import org.cyclops.cyclopscore.helper.TileHelpers;
 import org.cyclops.integrateddynamics.IntegratedDynamics;
@@ -25,24 +25,30 @@ import org.cyclops.integrateddynamics.api.path.IPathElement;
 import org.cyclops.integrateddynamics.capability.variablecontainer.VariableContainerConfig;
 import org.cyclops.integrateddynamics.core.helper.PartHelpers;
 
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
 /**
  * A network that can hold parts.
  * Note that this network only contains references to the relevant data, it does not contain the actual information.
+ *
+ * The variable facades of all variable containers are kept in a single index by variable id,
+ * which is updated incrementally when containers add or remove variables.
  * @author rubensworks
  */
-public class PartNetwork extends FullNetworkListenerAdapter implements IPartNetwork {
+public class PartNetwork extends FullNetworkListenerAdapter implements IPartNetwork, IVariableContainer.IListener {
 
     @Getter
     @Setter
     private INetwork network;
     private TIntObjectMap<PartPos> partPositions = new TIntObjectHashMap<>();
-    private List<DimPos> variableContainerPositions = Lists.newArrayList();
-    private Map<Integer, IVariableFacade> compositeVariableCache = null;
+    private Map<DimPos, IVariableContainer> variableContainers = Maps.newLinkedHashMap();
+    private List<IVariableContainer> unindexedVariableContainers = Lists.newArrayList();
+    private List<DimPos> unresolvedVariableContainerPositions = Lists.newArrayList();
+    private TIntObjectMap<IVariableFacade> variableIndex = new TIntObjectHashMap<>();
+    private long variableFacadesVersion = 0;
     private TIntObjectMap<IValue> lazyExpressionValueCache = new TIntObjectHashMap<>();
+    private long lazyExpressionValueCacheEpoch = 0;
     private TIntObjectMap<DimPos> proxyPositions = new TIntObjectHashMap<>();
 
     private volatile boolean partsChanged = false;
@@ -109,33 +115,69 @@ public class PartNetwork extends FullNetworkListenerAdapter implements IPartNetw
         return ((IPartStateReader) getPartState(partId)).getVariable(aspect);
     }
 
-    protected Map<Integer, IVariableFacade> getVariableCache() {
-        if(compositeVariableCache == null) {
-            // Create a new composite map view on the existing variable containers in this network.
-            CompositeMap<Integer, IVariableFacade> compositeMap = new CompositeMap<>();
-            for(Iterator<DimPos> it = variableContainerPositions.iterator(); it.hasNext();) {
-                DimPos dimPos = it.next();
-                IVariableContainer variableContainer = TileHelpers.getCapability(dimPos, null, VariableContainerConfig.CAPABILITY);
-                if(variableContainer != null) {
-                    compositeMap.addElement(variableContainer.getVariableCache());
-                } else {
-                    IntegratedDynamics.clog(Level.ERROR, "The variable container at " + dimPos + " was invalid, skipping.");
-                    it.remove();
+    protected void indexVariable(int variableId, IVariableFacade variableFacade) {
+        // The first container that provides a variable id takes precedence.
+        if (!variableIndex.containsKey(variableId)) {
+            variableIndex.put(variableId, variableFacade);
+            variableFacadesVersion++;
+        }
+    }
+
+    protected void unindexVariable(int variableId, IVariableFacade variableFacade) {
+        if (variableIndex.get(variableId) == variableFacade) {
+            variableIndex.remove(variableId);
+            variableFacadesVersion++;
+            // Fall back to another container that provides the same variable id.
+            for (IVariableContainer variableContainer : variableContainers.values()) {
+                IVariableFacade otherVariableFacade = variableContainer.getVariableCache().get(variableId);
+                if (otherVariableFacade != null && otherVariableFacade != variableFacade) {
+                    variableIndex.put(variableId, otherVariableFacade);
+                    break;
                 }
             }
-            compositeVariableCache = compositeMap;
         }
-        return compositeVariableCache;
+    }
+
+    @Override
+    public void onVariableAdded(IVariableContainer container, int variableId, IVariableFacade variableFacade) {
+        indexVariable(variableId, variableFacade);
+    }
+
+    @Override
+    public void onVariableRemoved(IVariableContainer container, int variableId, IVariableFacade variableFacade) {
+        unindexVariable(variableId, variableFacade);
     }
 
     @Override
     public boolean hasVariableFacade(int variableId) {
-        return getVariableCache().containsKey(variableId);
+        return getVariableFacade(variableId) != null;
     }
 
     @Override
     public IVariableFacade getVariableFacade(int variableId) {
-        return getVariableCache().get(variableId);
+        if (!unresolvedVariableContainerPositions.isEmpty()) {
+            resolveVariableContainers();
+        }
+        IVariableFacade variableFacade = variableIndex.get(variableId);
+        if (variableFacade == null) {
+            // Containers that can not notify us of changes must be checked on each lookup.
+            for (IVariableContainer variableContainer : unindexedVariableContainers) {
+                variableFacade = variableContainer.getVariableCache().get(variableId);
+                if (variableFacade != null) {
+                    break;
+                }
+            }
+        }
+        return variableFacade;
+    }
+
+    @Override
+    public long getVariableFacadesVersion() {
+        if (!unresolvedVariableContainerPositions.isEmpty() || !unindexedVariableContainers.isEmpty()) {
+            // Changes in these containers can not be detected.
+            return ++variableFacadesVersion;
+        }
+        return variableFacadesVersion;
     }
 
     @Override
@@ -153,16 +195,66 @@ public class PartNetwork extends FullNetworkListenerAdapter implements IPartNetw
         return lazyExpressionValueCache.get(id);
     }
 
+    @Override
+    public long getEpoch() {
+        return lazyExpressionValueCacheEpoch;
+    }
+
+    protected void resolveVariableContainers() {
+        List<DimPos> positions = Lists.newArrayList(unresolvedVariableContainerPositions);
+        unresolvedVariableContainerPositions.clear();
+        for (DimPos dimPos : positions) {
+            IVariableContainer variableContainer = TileHelpers.getCapability(dimPos, null, VariableContainerConfig.CAPABILITY);
+            if (variableContainer != null) {
+                addVariableContainer(dimPos, variableContainer);
+            } else {
+                IntegratedDynamics.clog(Level.ERROR, "The variable container at " + dimPos + " was invalid, skipping.");
+            }
+        }
+    }
+
+    protected void addVariableContainer(DimPos dimPos, IVariableContainer variableContainer) {
+        variableContainers.put(dimPos, variableContainer);
+        if (variableContainer.addListener(this)) {
+            for (Map.Entry<Integer, IVariableFacade> entry : variableContainer.getVariableCache().entrySet()) {
+                indexVariable(entry.getKey(), entry.getValue());
+            }
+        } else {
+            unindexedVariableContainers.add(variableContainer);
+        }
+    }
+
     @Override
     public boolean addVariableContainer(DimPos dimPos) {
-        compositeVariableCache = null;
-        return variableContainerPositions.add(dimPos);
+        if (variableContainers.containsKey(dimPos) || unresolvedVariableContainerPositions.contains(dimPos)) {
+            return false;
+        }
+        IVariableContainer variableContainer = TileHelpers.getCapability(dimPos, null, VariableContainerConfig.CAPABILITY);
+        if (variableContainer != null) {
+            addVariableContainer(dimPos, variableContainer);
+        } else {
+            // Try again on the next lookup, as the container may not be available yet while the network is loading.
+            unresolvedVariableContainerPositions.add(dimPos);
+        }
+        return true;
     }
 
     @Override
     public void removeVariableContainer(DimPos dimPos) {
-        compositeVariableCache = null;
-        variableContainerPositions.remove(dimPos);
+        if (unresolvedVariableContainerPositions.remove(dimPos)) {
+            variableFacadesVersion++;
+        }
+        IVariableContainer variableContainer = variableContainers.remove(dimPos);
+        if (variableContainer != null) {
+            variableContainer.removeListener(this);
+            if (unindexedVariableContainers.remove(variableContainer)) {
+                variableFacadesVersion++;
+            } else {
+                for (Map.Entry<Integer, IVariableFacade> entry : variableContainer.getVariableCache().entrySet()) {
+                    unindexVariable(entry.getKey(), entry.getValue());
+                }
+            }
+        }
     }
 
     @Override
@@ -197,6 +289,7 @@ public class PartNetwork extends FullNetworkListenerAdapter implements IPartNetw
     public void update() {
         // Reset lazy variable cache
         lazyExpressionValueCache.clear();
+        lazyExpressionValueCacheEpoch++;
 
         // Signal parts of any changes
         if (partsChanged) {
@@ -205,6 +298,19 @@ public class PartNetwork extends FullNetworkListenerAdapter implements IPartNetw
         }
     }
 
+    @Override
+    public void kill() {
+        // Variable containers may outlive this network, so they must not keep notifying it.
+        for (IVariableContainer variableContainer : variableContainers.values()) {
+            variableContainer.removeListener(this);
+        }
+        variableContainers.clear();
+        unindexedVariableContainers.clear();
+        unresolvedVariableContainerPositions.clear();
+        variableIndex.clear();
+        variableFacadesVersion++;
+    }
+
     @Override
     public boolean removePathElement(IPathElement pathElement) {
         notifyPartsChanged();
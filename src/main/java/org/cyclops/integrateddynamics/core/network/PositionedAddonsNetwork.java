@@ -1,6 +1,7 @@
 package org.cyclops.integrateddynamics.core.network;
 
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import lombok.Getter;
 import lombok.Setter;
@@ -8,45 +9,121 @@ import org.cyclops.integrateddynamics.api.network.INetwork;
 import org.cyclops.integrateddynamics.api.network.IPositionedAddonsNetwork;
 import org.cyclops.integrateddynamics.api.part.PartPos;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
-import java.util.TreeSet;
+import java.util.TreeMap;
 
 /**
  * A network that can hold prioritized positions.
+ *
+ * Positions are indexed by their part position, and grouped in buckets per priority.
+ * Readers iterate over a snapshot that is only rebuilt after positions were added or removed.
  * @author rubensworks
  */
 public class PositionedAddonsNetwork implements IPositionedAddonsNetwork {
 
+    private static final PrioritizedPartPos[][] EMPTY_BUCKETS = new PrioritizedPartPos[0][];
+
     @Getter
     @Setter
     private INetwork network;
-    private final TreeSet<PrioritizedPartPos> positions = Sets.newTreeSet();
+    private final Map<PartPos, PrioritizedPartPos> positions = Maps.newHashMap();
+    private final TreeMap<Integer, Map<PartPos, PrioritizedPartPos>> buckets = Maps.newTreeMap(Collections.reverseOrder());
     private final Set<PartPos> disabledPositions = Sets.newHashSet();
 
+    private ImmutableSet<PrioritizedPartPos> positionsSnapshot = null;
+    private PrioritizedPartPos[][] bucketsSnapshot = null;
+    private int[] bucketCursors = null;
+
+    protected void onPositionsChanged() {
+        positionsSnapshot = null;
+        bucketsSnapshot = null;
+        bucketCursors = null;
+    }
+
+    protected PrioritizedPartPos[][] getBucketsSnapshot() {
+        if (bucketsSnapshot == null) {
+            PrioritizedPartPos[][] snapshot = buckets.isEmpty() ? EMPTY_BUCKETS : new PrioritizedPartPos[buckets.size()][];
+            int i = 0;
+            for (Map<PartPos, PrioritizedPartPos> bucket : buckets.values()) {
+                PrioritizedPartPos[] bucketSnapshot = bucket.values().toArray(new PrioritizedPartPos[bucket.size()]);
+                Arrays.sort(bucketSnapshot);
+                snapshot[i++] = bucketSnapshot;
+            }
+            bucketsSnapshot = snapshot;
+            bucketCursors = new int[snapshot.length];
+        }
+        return bucketsSnapshot;
+    }
+
     @Override
     public Set<PrioritizedPartPos> getPositions() {
-        return ImmutableSet.copyOf(positions);
+        if (positionsSnapshot == null) {
+            ImmutableSet.Builder<PrioritizedPartPos> builder = ImmutableSet.builder();
+            for (PrioritizedPartPos[] bucket : getBucketsSnapshot()) {
+                builder.add(bucket);
+            }
+            positionsSnapshot = builder.build();
+        }
+        return positionsSnapshot;
+    }
+
+    @Override
+    public Iterable<PrioritizedPartPos> getPrioritizedPositions() {
+        PrioritizedPartPos[][] buckets = getBucketsSnapshot();
+        int[] offsets = bucketCursors.clone();
+        return () -> new RotatingBucketsIterator(buckets, offsets);
+    }
+
+    @Override
+    public void rotatePrioritizedPositions() {
+        PrioritizedPartPos[][] buckets = getBucketsSnapshot();
+        for (int i = 0; i < buckets.length; i++) {
+            bucketCursors[i] = (bucketCursors[i] + 1) % buckets[i].length;
+        }
     }
 
     @Override
     public boolean addPosition(PartPos pos, int priority) {
-        return positions.add(PrioritizedPartPos.of(pos, priority));
+        PrioritizedPartPos existing = positions.get(pos);
+        if (existing != null) {
+            if (existing.getPriority() == priority) {
+                return false;
+            }
+            removePosition(pos);
+        }
+        PrioritizedPartPos prioritizedPartPos = PrioritizedPartPos.of(pos, priority);
+        positions.put(pos, prioritizedPartPos);
+        Map<PartPos, PrioritizedPartPos> bucket = buckets.get(priority);
+        if (bucket == null) {
+            bucket = Maps.newHashMap();
+            buckets.put(priority, bucket);
+        }
+        bucket.put(pos, prioritizedPartPos);
+        onPositionsChanged();
+        return true;
     }
 
     @Override
     public void removePosition(PartPos pos) {
-        Iterator<PrioritizedPartPos> it = positions.iterator();
-        while (it.hasNext()) {
-            if (it.next().getPartPos().equals(pos)) {
-                it.remove();
+        PrioritizedPartPos prioritizedPartPos = positions.remove(pos);
+        if (prioritizedPartPos != null) {
+            Map<PartPos, PrioritizedPartPos> bucket = buckets.get(prioritizedPartPos.getPriority());
+            bucket.remove(pos);
+            if (bucket.isEmpty()) {
+                buckets.remove(prioritizedPartPos.getPriority());
             }
+            onPositionsChanged();
         }
     }
 
     @Override
     public boolean isPositionDisabled(PartPos pos) {
-        return disabledPositions.contains(pos);
+        return !disabledPositions.isEmpty() && disabledPositions.contains(pos);
     }
 
     @Override
@@ -58,4 +135,39 @@ public class PositionedAddonsNetwork implements IPositionedAddonsNetwork {
     public void enablePosition(PartPos pos) {
         disabledPositions.remove(pos);
     }
+
+    /**
+     * Iterates over all buckets in order, where each bucket starts at a given offset and wraps around.
+     */
+    protected static class RotatingBucketsIterator implements Iterator<PrioritizedPartPos> {
+
+        private final PrioritizedPartPos[][] buckets;
+        private final int[] offsets;
+        private int bucket = 0;
+        private int index = 0;
+
+        public RotatingBucketsIterator(PrioritizedPartPos[][] buckets, int[] offsets) {
+            this.buckets = buckets;
+            this.offsets = offsets;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return bucket < buckets.length;
+        }
+
+        @Override
+        public PrioritizedPartPos next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            PrioritizedPartPos[] current = buckets[bucket];
+            PrioritizedPartPos value = current[(offsets[bucket] + index) % current.length];
+            if (++index >= current.length) {
+                bucket++;
+                index = 0;
+            }
+            return value;
+        }
+    }
 }
@@ -0,0 +1,164 @@
+package org.cyclops.integrateddynamics.core.network;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * A hierarchical timing wheel that schedules elements at a tick delay.
+ * Advancing the wheel by one tick only touches the elements that are due in that tick,
+ * and the elements that have to be cascaded from a coarser wheel level into a finer one.
+ *
+ * Elements that are due in the same tick are returned in their natural order.
+ * Element identity is determined by {@link Comparable#compareTo(Object)}, just like for a {@link TreeSet}.
+ * @param <E> The element type.
+ * @author rubensworks
+ */
+public class TickWheel<E extends Comparable<? super E>> {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    /**
+     * The maximum delay an element can be scheduled with, larger delays are clamped.
+     */
+    public static final int MAX_DELAY = 1 << (SLOT_BITS * (LEVELS - 1));
+
+    private final TreeSet<E>[][] slots;
+    private final Map<E, Entry<E>> entries = Maps.newTreeMap();
+    private long currentTick = 0;
+
+    @SuppressWarnings("unchecked")
+    public TickWheel() {
+        this.slots = new TreeSet[LEVELS][SLOTS];
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                this.slots[level][slot] = Sets.newTreeSet();
+            }
+        }
+    }
+
+    /**
+     * @return The tick that was last processed by {@link #advance()}.
+     */
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    /**
+     * @return The number of scheduled elements.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * @param element An element.
+     * @return If the element is currently scheduled.
+     */
+    public boolean contains(E element) {
+        return entries.containsKey(element);
+    }
+
+    /**
+     * Schedule the given element to become due after the given number of ticks.
+     * If the element was already scheduled, its previous schedule is overwritten.
+     * @param element The element.
+     * @param delay The delay in ticks, relative to the last processed tick.
+     *              Values smaller than one will make the element due in the next tick,
+     *              values larger than {@link #MAX_DELAY} are clamped.
+     */
+    public void schedule(E element, int delay) {
+        remove(element);
+        long deadline = currentTick + Math.max(1, Math.min(MAX_DELAY, delay));
+        Entry<E> entry = new Entry<>(deadline);
+        entries.put(element, entry);
+        place(element, entry);
+    }
+
+    /**
+     * Unschedule the given element.
+     * @param element The element.
+     * @return The remaining delay of the element, or -1 if it was not scheduled.
+     */
+    public int remove(E element) {
+        Entry<E> entry = entries.remove(element);
+        if (entry == null) {
+            return -1;
+        }
+        entry.slot.remove(element);
+        return (int) (entry.deadline - currentTick);
+    }
+
+    /**
+     * Move to the next tick and take all elements that are due in that tick.
+     * The returned elements are not scheduled anymore, so they must be rescheduled by the caller if needed.
+     * @return The due elements, in their natural order. This list must not be modified.
+     */
+    public List<E> advance() {
+        currentTick++;
+        // Cascade the coarser levels that have reached their next slot, from the top down.
+        int topLevel = 0;
+        while (topLevel < LEVELS - 1 && (currentTick & ((1L << (SLOT_BITS * (topLevel + 1))) - 1)) == 0) {
+            topLevel++;
+        }
+        for (int level = topLevel; level > 0; level--) {
+            TreeSet<E> slot = slots[level][(int) (currentTick >> (SLOT_BITS * level)) & SLOT_MASK];
+            if (!slot.isEmpty()) {
+                List<E> cascading = Lists.newArrayList(slot);
+                slot.clear();
+                for (E element : cascading) {
+                    place(element, entries.get(element));
+                }
+            }
+        }
+
+        TreeSet<E> slot = slots[0][(int) currentTick & SLOT_MASK];
+        if (slot.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<E> due = Lists.newArrayList(slot);
+        slot.clear();
+        for (E element : due) {
+            entries.remove(element);
+        }
+        return due;
+    }
+
+    /**
+     * Remove all scheduled elements.
+     */
+    public void clear() {
+        for (Entry<E> entry : entries.values()) {
+            entry.slot.clear();
+        }
+        entries.clear();
+    }
+
+    protected void place(E element, Entry<E> entry) {
+        // Find the finest level in which the deadline and the current tick share all coarser slot digits.
+        int level = 0;
+        while (level < LEVELS - 1 && ((entry.deadline ^ currentTick) >> (SLOT_BITS * (level + 1))) != 0) {
+            level++;
+        }
+        TreeSet<E> slot = slots[level][(int) (entry.deadline >> (SLOT_BITS * level)) & SLOT_MASK];
+        slot.add(element);
+        entry.slot = slot;
+    }
+
+    protected static class Entry<E> {
+        private final long deadline;
+        private TreeSet<E> slot;
+
+        public Entry(long deadline) {
+            this.deadline = deadline;
+        }
+    }
+
+}
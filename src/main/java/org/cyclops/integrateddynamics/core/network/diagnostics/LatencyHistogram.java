@@ -0,0 +1,96 @@
+package org.cyclops.integrateddynamics.core.network.diagnostics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A thread-safe histogram of durations in nanoseconds with power-of-two buckets.
+ * Recording is constant-time and allocation-free, percentiles are approximated by the upper bound of their bucket.
+ * @author rubensworks
+ */
+public class LatencyHistogram {
+
+    private static final int BUCKETS = 48;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNs = new LongAdder();
+    private final AtomicLong maxNs = new AtomicLong();
+
+    /**
+     * Add the given duration.
+     * @param durationNs A duration in nanoseconds.
+     */
+    public void record(long durationNs) {
+        int bucket = durationNs <= 0 ? 0 : Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(durationNs));
+        buckets.incrementAndGet(bucket);
+        count.increment();
+        totalNs.add(durationNs);
+        long max;
+        while (durationNs > (max = maxNs.get()) && !maxNs.compareAndSet(max, durationNs));
+    }
+
+    /**
+     * @return The number of recorded durations.
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * @return The sum of all recorded durations in nanoseconds.
+     */
+    public long getTotalNs() {
+        return totalNs.sum();
+    }
+
+    /**
+     * @return The mean of all recorded durations in nanoseconds.
+     */
+    public long getMeanNs() {
+        long count = getCount();
+        return count == 0 ? 0 : getTotalNs() / count;
+    }
+
+    /**
+     * @return The largest recorded duration in nanoseconds.
+     */
+    public long getMaxNs() {
+        return maxNs.get();
+    }
+
+    /**
+     * @param percentile A percentile between 0 and 1.
+     * @return The approximate duration in nanoseconds below which the given percentile of durations lie.
+     */
+    public long getPercentileNs(double percentile) {
+        long count = getCount();
+        if (count == 0) {
+            return 0;
+        }
+        // At least one duration must be seen, so that the lowest percentile is not an empty bucket.
+        long threshold = Math.max(1, (long) Math.ceil(count * percentile));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += buckets.get(i);
+            if (seen >= threshold) {
+                return Math.min(1L << i, getMaxNs());
+            }
+        }
+        return getMaxNs();
+    }
+
+    /**
+     * Remove all recorded durations.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets.set(i, 0);
+        }
+        count.reset();
+        totalNs.reset();
+        maxNs.set(0);
+    }
+
+}
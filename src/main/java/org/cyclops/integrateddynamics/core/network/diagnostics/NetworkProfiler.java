@@ -0,0 +1,260 @@
+package org.cyclops.integrateddynamics.core.network.diagnostics;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import org.apache.logging.log4j.Level;
+import org.cyclops.integrateddynamics.GeneralConfig;
+import org.cyclops.integrateddynamics.IntegratedDynamics;
+import org.cyclops.integrateddynamics.api.PartStateException;
+import org.cyclops.integrateddynamics.api.network.INetwork;
+import org.cyclops.integrateddynamics.api.network.INetworkElement;
+import org.cyclops.integrateddynamics.api.network.IPartNetworkElement;
+import org.cyclops.integrateddynamics.api.part.IPartState;
+import org.cyclops.integrateddynamics.api.part.IPartType;
+import org.cyclops.integrateddynamics.api.part.aspect.IAspect;
+import org.cyclops.integrateddynamics.api.part.write.IPartStateWriter;
+
+import javax.annotation.Nullable;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Hashtable;
+import java.util.List;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Always-on profiler for network element updates.
+ *
+ * Updates, skips and energy starvations are always counted,
+ * while the durations of on average one in {@link GeneralConfig#profilingSampleInterval} updates are measured.
+ * The entries of an element are cached, and the active aspect of an element is only looked up again for sampled updates.
+ * Results are aggregated per part type, per active writer aspect and per network,
+ * and part type and aspect entries are exposed as JMX MBeans.
+ * @author rubensworks
+ */
+public class NetworkProfiler {
+
+    public static final String JMX_DOMAIN = "org.cyclops.integrateddynamics";
+
+    private static final NetworkProfiler _INSTANCE = new NetworkProfiler();
+
+    private final ConcurrentMap<IPartType, ProfilerEntry> partTypes = Maps.newConcurrentMap();
+    private final ConcurrentMap<IAspect, ProfilerEntry> aspects = Maps.newConcurrentMap();
+    private final Cache<INetwork, ProfilerEntry> networks = CacheBuilder.newBuilder().weakKeys().build();
+    private final Cache<INetworkElement, ElementEntries> elements = CacheBuilder.newBuilder().weakKeys().build();
+
+    private NetworkProfiler() {
+
+    }
+
+    public static NetworkProfiler getInstance() {
+        return _INSTANCE;
+    }
+
+    /**
+     * @return If profiling is enabled.
+     */
+    public boolean isEnabled() {
+        return GeneralConfig.profilingSampleInterval > 0;
+    }
+
+    /**
+     * Called after an element has been updated.
+     * @param network The network.
+     * @param element The element.
+     * @param durationNs The duration of the update in nanoseconds, or a negative value if it was not sampled.
+     */
+    public void onUpdate(INetwork network, INetworkElement element, long durationNs) {
+        getNetworkEntry(network).onUpdate(durationNs);
+        ElementEntries entries = getElementEntries(element, durationNs >= 0);
+        if (entries.partType != null) {
+            entries.partType.onUpdate(durationNs);
+        }
+        if (entries.aspect != null) {
+            entries.aspect.onUpdate(durationNs);
+        }
+    }
+
+    /**
+     * Called when an element could not be updated.
+     * @param network The network.
+     * @param element The element.
+     */
+    public void onSkip(INetwork network, INetworkElement element) {
+        getNetworkEntry(network).onSkip();
+        ElementEntries entries = getElementEntries(element, false);
+        if (entries.partType != null) {
+            entries.partType.onSkip();
+        }
+        if (entries.aspect != null) {
+            entries.aspect.onSkip();
+        }
+    }
+
+    /**
+     * Called when an element could not be updated because the network did not have enough energy.
+     * @param network The network.
+     * @param element The element.
+     */
+    public void onEnergyStarved(INetwork network, INetworkElement element) {
+        getNetworkEntry(network).onEnergyStarved();
+        ElementEntries entries = getElementEntries(element, false);
+        if (entries.partType != null) {
+            entries.partType.onEnergyStarved();
+        }
+        if (entries.aspect != null) {
+            entries.aspect.onEnergyStarved();
+        }
+    }
+
+    protected ProfilerEntry getNetworkEntry(INetwork network) {
+        ProfilerEntry entry = networks.getIfPresent(network);
+        if (entry == null) {
+            entry = new ProfilerEntry("network-" + network.hashCode());
+            networks.put(network, entry);
+        }
+        return entry;
+    }
+
+    /**
+     * Get the entries to which the results of the given element are added.
+     * The part state is only inspected for the first update of an element and for sampled updates,
+     * so that the active aspect of writers is followed without looking it up for every update.
+     * @param element The element.
+     * @param refresh If the active aspect should be looked up again.
+     * @return The entries of the element.
+     */
+    protected ElementEntries getElementEntries(INetworkElement element, boolean refresh) {
+        ElementEntries entries = elements.getIfPresent(element);
+        if (entries == null) {
+            entries = new ElementEntries(getPartTypeEntry(element), getAspectEntry(element));
+            elements.put(element, entries);
+        } else if (refresh && entries.partType != null) {
+            entries.aspect = getAspectEntry(element);
+        }
+        return entries;
+    }
+
+    protected @Nullable ProfilerEntry getPartTypeEntry(INetworkElement element) {
+        if (element instanceof IPartNetworkElement) {
+            IPartType partType = ((IPartNetworkElement) element).getPart();
+            ProfilerEntry entry = partTypes.get(partType);
+            if (entry == null) {
+                entry = new ProfilerEntry(partType.getName());
+                ProfilerEntry existing = partTypes.putIfAbsent(partType, entry);
+                if (existing != null) {
+                    return existing;
+                }
+                registerMBean("PartType", entry);
+            }
+            return entry;
+        }
+        return null;
+    }
+
+    protected @Nullable ProfilerEntry getAspectEntry(INetworkElement element) {
+        if (element instanceof IPartNetworkElement) {
+            IPartState partState;
+            try {
+                partState = ((IPartNetworkElement) element).getPartState();
+            } catch (PartStateException e) {
+                return null;
+            }
+            if (partState instanceof IPartStateWriter) {
+                IAspect aspect = ((IPartStateWriter) partState).getActiveAspect();
+                if (aspect != null) {
+                    ProfilerEntry entry = aspects.get(aspect);
+                    if (entry == null) {
+                        entry = new ProfilerEntry(aspect.getUnlocalizedName());
+                        ProfilerEntry existing = aspects.putIfAbsent(aspect, entry);
+                        if (existing != null) {
+                            return existing;
+                        }
+                        registerMBean("Aspect", entry);
+                    }
+                    return entry;
+                }
+            }
+        }
+        return null;
+    }
+
+    protected void registerMBean(String type, ProfilerEntry entry) {
+        if (GeneralConfig.profilingJmx) {
+            try {
+                MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+                Hashtable<String, String> properties = new Hashtable<>();
+                properties.put("type", type);
+                properties.put("name", ObjectName.quote(entry.getName()));
+                ObjectName name = new ObjectName(JMX_DOMAIN, properties);
+                if (!server.isRegistered(name)) {
+                    server.registerMBean(entry, name);
+                }
+            } catch (JMException | SecurityException e) {
+                IntegratedDynamics.clog(Level.WARN, "Could not register the profiler MBean for " + entry.getName() + ": " + e.getMessage());
+            }
+        }
+    }
+
+    protected List<ProfilerEntry> sorted(Collection<ProfilerEntry> entries) {
+        List<ProfilerEntry> list = Lists.newArrayList(entries);
+        list.sort(Comparator.comparingLong(ProfilerEntry::getEstimatedTotalNs).reversed());
+        return list;
+    }
+
+    /**
+     * @return The part type entries, most expensive first.
+     */
+    public List<ProfilerEntry> getPartTypeEntries() {
+        return sorted(partTypes.values());
+    }
+
+    /**
+     * @return The aspect entries, most expensive first.
+     */
+    public List<ProfilerEntry> getAspectEntries() {
+        return sorted(aspects.values());
+    }
+
+    /**
+     * @return The entries of networks that still exist, most expensive first.
+     */
+    public List<ProfilerEntry> getNetworkEntries() {
+        return sorted(networks.asMap().values());
+    }
+
+    /**
+     * Reset all counters and histograms.
+     */
+    public void reset() {
+        for (ProfilerEntry entry : partTypes.values()) {
+            entry.reset();
+        }
+        for (ProfilerEntry entry : aspects.values()) {
+            entry.reset();
+        }
+        networks.invalidateAll();
+    }
+
+    /**
+     * The part type and aspect entries of an element.
+     */
+    protected static class ElementEntries {
+
+        @Nullable
+        private final ProfilerEntry partType;
+        @Nullable
+        private ProfilerEntry aspect;
+
+        public ElementEntries(@Nullable ProfilerEntry partType, @Nullable ProfilerEntry aspect) {
+            this.partType = partType;
+            this.aspect = aspect;
+        }
+    }
+
+}
@@ -0,0 +1,104 @@
+package org.cyclops.integrateddynamics.core.network.diagnostics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Profiling counters and a latency histogram of sampled updates for a part type, aspect or network.
+ * @author rubensworks
+ */
+public class ProfilerEntry implements ProfilerEntryMBean {
+
+    private final String name;
+    private final LongAdder updates = new LongAdder();
+    private final LongAdder skips = new LongAdder();
+    private final LongAdder energyStarvations = new LongAdder();
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    public ProfilerEntry(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Count an update.
+     * @param durationNs The duration of the update in nanoseconds, or a negative value if it was not sampled.
+     */
+    public void onUpdate(long durationNs) {
+        updates.increment();
+        if (durationNs >= 0) {
+            histogram.record(durationNs);
+        }
+    }
+
+    public void onSkip() {
+        skips.increment();
+    }
+
+    public void onEnergyStarved() {
+        energyStarvations.increment();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public long getUpdates() {
+        return updates.sum();
+    }
+
+    @Override
+    public long getSkips() {
+        return skips.sum();
+    }
+
+    @Override
+    public long getEnergyStarvations() {
+        return energyStarvations.sum();
+    }
+
+    @Override
+    public long getSamples() {
+        return histogram.getCount();
+    }
+
+    @Override
+    public long getMeanNs() {
+        return histogram.getMeanNs();
+    }
+
+    @Override
+    public long getP50Ns() {
+        return histogram.getPercentileNs(0.5D);
+    }
+
+    @Override
+    public long getP99Ns() {
+        return histogram.getPercentileNs(0.99D);
+    }
+
+    @Override
+    public long getMaxNs() {
+        return histogram.getMaxNs();
+    }
+
+    @Override
+    public long getEstimatedTotalNs() {
+        return getMeanNs() * getUpdates();
+    }
+
+    @Override
+    public void reset() {
+        updates.reset();
+        skips.reset();
+        energyStarvations.reset();
+        histogram.reset();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %d updates, %d skips, %d energy starved, mean %dns, p50 %dns, p99 %dns, max %dns (%d samples)",
+                getName(), getUpdates(), getSkips(), getEnergyStarvations(),
+                getMeanNs(), getP50Ns(), getP99Ns(), getMaxNs(), getSamples());
+    }
+}
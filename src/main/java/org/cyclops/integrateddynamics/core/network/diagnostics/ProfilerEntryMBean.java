@@ -0,0 +1,34 @@
+package org.cyclops.integrateddynamics.core.network.diagnostics;
+
+/**
+ * The JMX view of a {@link ProfilerEntry}.
+ * @author rubensworks
+ */
+public interface ProfilerEntryMBean {
+
+    public String getName();
+
+    public long getUpdates();
+
+    public long getSkips();
+
+    public long getEnergyStarvations();
+
+    public long getSamples();
+
+    public long getMeanNs();
+
+    public long getP50Ns();
+
+    public long getP99Ns();
+
+    public long getMaxNs();
+
+    /**
+     * @return The estimated total update time of all updates in nanoseconds, extrapolated from the samples.
+     */
+    public long getEstimatedTotalNs();
+
+    public void reset();
+
+}
@@ -2,40 +2,117 @@ package org.cyclops.integrateddynamics.core.network.event;
 
 import com.google.common.collect.Maps;
 import net.minecraftforge.fml.common.eventhandler.EventBus;
-import org.cyclops.cyclopscore.helper.CollectionHelpers;
+import org.cyclops.integrateddynamics.GeneralConfig;
 import org.cyclops.integrateddynamics.api.network.IEventListenableNetworkElement;
 import org.cyclops.integrateddynamics.api.network.INetwork;
 import org.cyclops.integrateddynamics.api.network.INetworkElement;
 import org.cyclops.integrateddynamics.api.network.event.ICancelableNetworkEvent;
+import org.cyclops.integrateddynamics.api.network.event.ICoalescableNetworkEvent;
 import org.cyclops.integrateddynamics.api.network.event.INetworkEvent;
 import org.cyclops.integrateddynamics.api.network.event.INetworkEventBus;
 
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.Map;
-import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * An event bus for {@link INetwork} events where
  * {@link INetworkElement} instances can listen to.
  *
+ * Listeners are stored in copy-on-write arrays, indexed by a global id per event type,
+ * so that posting never has to lock or copy, and is not affected by concurrent (un)registrations.
+ *
+ * {@link ICoalescableNetworkEvent}s are collected per event type and only delivered once in
+ * {@link #flushCoalescedEvents()}, if enabled in the config.
+ *
  * Partially based on Minecraft Forge's {@link EventBus} implementation.
  *
  * @author rubensworks
  */
 public class NetworkEventBus implements INetworkEventBus {
 
-    private final Map<Class<? extends INetworkEvent>, Set<IEventListenableNetworkElement<?>>> listeners = Collections.synchronizedMap(Maps.<Class<? extends INetworkEvent>, Set<IEventListenableNetworkElement<?>>>newHashMap());
+    private static final IEventListenableNetworkElement<?>[] EMPTY_LISTENERS = new IEventListenableNetworkElement<?>[0];
+    private static final ConcurrentMap<Class<? extends INetworkEvent>, Integer> EVENT_TYPE_IDS = Maps.newConcurrentMap();
+    private static final AtomicInteger EVENT_TYPE_ID_COUNTER = new AtomicInteger();
+
+    private volatile IEventListenableNetworkElement<?>[][] listeners = new IEventListenableNetworkElement<?>[0][];
+    private final Map<Class<? extends INetworkEvent>, INetworkEvent> coalescedEvents = Maps.newLinkedHashMap();
+
+    /**
+     * Get the unique id of the given event type, or create a new one.
+     * @param eventType The event type.
+     * @return The event type id.
+     */
+    protected static int getOrCreateEventTypeId(Class<? extends INetworkEvent> eventType) {
+        Integer id = EVENT_TYPE_IDS.get(eventType);
+        if (id == null) {
+            synchronized (EVENT_TYPE_IDS) {
+                id = EVENT_TYPE_IDS.get(eventType);
+                if (id == null) {
+                    id = EVENT_TYPE_ID_COUNTER.getAndIncrement();
+                    EVENT_TYPE_IDS.put(eventType, id);
+                }
+            }
+        }
+        return id;
+    }
+
+    /**
+     * @param eventType The event type.
+     * @return The event type id, or -1 if no listeners have ever been registered for it.
+     */
+    protected static int getEventTypeId(Class<? extends INetworkEvent> eventType) {
+        Integer id = EVENT_TYPE_IDS.get(eventType);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * @param eventType The event type.
+     * @return A snapshot of the listeners for the given event type, this array must not be modified.
+     */
+    protected IEventListenableNetworkElement<?>[] getListeners(Class<? extends INetworkEvent> eventType) {
+        int id = getEventTypeId(eventType);
+        IEventListenableNetworkElement<?>[][] listeners = this.listeners;
+        if (id < 0 || id >= listeners.length || listeners[id] == null) {
+            return EMPTY_LISTENERS;
+        }
+        return listeners[id];
+    }
 
     @Override
-    public void register(IEventListenableNetworkElement<?> target, Class<? extends INetworkEvent> eventType) {
-        CollectionHelpers.addToMapSet(this.listeners, eventType, target);
+    public synchronized void register(IEventListenableNetworkElement<?> target, Class<? extends INetworkEvent> eventType) {
+        int id = getOrCreateEventTypeId(eventType);
+        IEventListenableNetworkElement<?>[][] listeners = Arrays.copyOf(this.listeners, Math.max(this.listeners.length, id + 1));
+        IEventListenableNetworkElement<?>[] typeListeners = listeners[id] == null ? EMPTY_LISTENERS : listeners[id];
+        for (IEventListenableNetworkElement<?> listener : typeListeners) {
+            if (listener.equals(target)) {
+                return;
+            }
+        }
+        typeListeners = Arrays.copyOf(typeListeners, typeListeners.length + 1);
+        typeListeners[typeListeners.length - 1] = target;
+        listeners[id] = typeListeners;
+        this.listeners = listeners;
     }
 
     @Override
-    public void unregister(IEventListenableNetworkElement<?> target, Class<? extends INetworkEvent> eventType) {
-        Set<IEventListenableNetworkElement<?>> listeners = this.listeners.get(eventType);
-        if(listeners != null) {
-            listeners.remove(target);
+    public synchronized void unregister(IEventListenableNetworkElement<?> target, Class<? extends INetworkEvent> eventType) {
+        int id = getEventTypeId(eventType);
+        if (id < 0 || id >= this.listeners.length || this.listeners[id] == null) {
+            return;
+        }
+        IEventListenableNetworkElement<?>[] typeListeners = this.listeners[id];
+        for (int i = 0; i < typeListeners.length; i++) {
+            if (typeListeners[i].equals(target)) {
+                IEventListenableNetworkElement<?>[] newTypeListeners = new IEventListenableNetworkElement<?>[typeListeners.length - 1];
+                System.arraycopy(typeListeners, 0, newTypeListeners, 0, i);
+                System.arraycopy(typeListeners, i + 1, newTypeListeners, i, typeListeners.length - i - 1);
+                IEventListenableNetworkElement<?>[][] listeners = this.listeners.clone();
+                listeners[id] = newTypeListeners;
+                this.listeners = listeners;
+                return;
+            }
         }
     }
 
@@ -48,10 +125,16 @@ public class NetworkEventBus implements INetworkEventBus {
 
     @Override
     public void post(INetworkEvent event) {
-        Set<IEventListenableNetworkElement<?>> listeners = this.listeners.get(event.getClass());
-        if(listeners != null) {
-            for (IEventListenableNetworkElement listener : listeners) {
-                listener.getNetworkEventListener().onEvent(event, listener);
+        IEventListenableNetworkElement<?>[] listeners = getListeners(event.getClass());
+        if (listeners.length > 0) {
+            if (GeneralConfig.coalesceNetworkEvents && event instanceof ICoalescableNetworkEvent) {
+                synchronized (coalescedEvents) {
+                    if (!coalescedEvents.containsKey(event.getClass())) {
+                        coalescedEvents.put(event.getClass(), event);
+                    }
+                }
+            } else {
+                deliver(event, listeners);
             }
         }
     }
@@ -62,4 +145,33 @@ public class NetworkEventBus implements INetworkEventBus {
         return !event.isCanceled();
     }
 
+    @Override
+    public void flushCoalescedEvents() {
+        INetworkEvent[] events;
+        synchronized (coalescedEvents) {
+            if (coalescedEvents.isEmpty()) {
+                return;
+            }
+            events = coalescedEvents.values().toArray(new INetworkEvent[coalescedEvents.size()]);
+            coalescedEvents.clear();
+        }
+        // Events that are posted while delivering will be delivered in the next flush.
+        for (INetworkEvent event : events) {
+            deliver(event, getListeners(event.getClass()));
+        }
+    }
+
+    @Override
+    public void clearCoalescedEvents() {
+        synchronized (coalescedEvents) {
+            coalescedEvents.clear();
+        }
+    }
+
+    protected void deliver(INetworkEvent event, IEventListenableNetworkElement<?>[] listeners) {
+        for (IEventListenableNetworkElement listener : listeners) {
+            listener.getNetworkEventListener().onEvent(event, listener);
+        }
+    }
+
 }
@@ -1,12 +1,13 @@
 package org.cyclops.integrateddynamics.core.network.event;
 
 import org.cyclops.integrateddynamics.api.network.INetwork;
+import org.cyclops.integrateddynamics.api.network.event.ICoalescableNetworkEvent;
 
 /**
  * An event used to signal network elements of updated variables inside the network.
  * @author rubensworks
  */
-public class VariableContentsUpdatedEvent extends NetworkEvent {
+public class VariableContentsUpdatedEvent extends NetworkEvent implements ICoalescableNetworkEvent {
 
     public VariableContentsUpdatedEvent(INetwork network) {
         super(network);
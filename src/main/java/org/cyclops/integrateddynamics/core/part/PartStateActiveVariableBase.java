@@ -121,7 +121,7 @@ public abstract class PartStateActiveVariableBase<P extends IPartType>
             globalErrorMessages.add(error);
         }
         onDirty();
-        sendUpdate(); // We want this error messages to be sent to the client(s).
+        sendSyncUpdate(); // We want this error messages to be sent to the client(s).
     }
 
     @Override
@@ -139,6 +139,19 @@ public abstract class PartStateActiveVariableBase<P extends IPartType>
         inventory.readFromNBT(tag);
     }
 
+    @Override
+    public void writeClientSyncNBT(NBTTagCompound tag) {
+        super.writeClientSyncNBT(tag);
+        NBTClassType.writeNbt(List.class, "globalErrorMessages", globalErrorMessages, tag);
+    }
+
+    @Override
+    public void readClientSyncNBT(NBTTagCompound tag) {
+        super.readClientSyncNBT(tag);
+        //noinspection unchecked
+        this.globalErrorMessages = NBTClassType.readNbt(List.class, "globalErrorMessages", tag);
+    }
+
     /**
      * An inventory that can only hold one filled slot at a time.
      */
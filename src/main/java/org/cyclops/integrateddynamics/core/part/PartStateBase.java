@@ -28,6 +28,7 @@ public abstract class PartStateBase<P extends IPartType> implements IPartState<P
 
     private boolean dirty = false;
     private boolean update = false;
+    private boolean syncUpdate = false;
 
     private int updateInterval = getDefaultUpdateInterval();
     private int priority = 0;
@@ -141,6 +142,13 @@ public abstract class PartStateBase<P extends IPartType> implements IPartState<P
         return wasUpdate;
     }
 
+    @Override
+    public boolean isSyncUpdateAndReset() {
+        boolean wasSyncUpdate = this.syncUpdate;
+        this.syncUpdate = false;
+        return wasSyncUpdate;
+    }
+
     @Override
     public void onDirty() {
         this.dirty = true;
@@ -153,6 +161,18 @@ public abstract class PartStateBase<P extends IPartType> implements IPartState<P
         this.update = true;
     }
 
+    /**
+     * Enables a flag that tells the part container to send the changed client-side fields to the client(s).
+     * If delta syncing is disabled, a full NBT update will be sent instead.
+     */
+    public void sendSyncUpdate() {
+        if (GeneralConfig.partDeltaSync) {
+            this.syncUpdate = true;
+        } else {
+            sendUpdate();
+        }
+    }
+
     @Override
     public IAspectProperties getAspectProperties(IAspect aspect) {
         return aspectProperties.get(aspect);
@@ -3,6 +3,7 @@ package org.cyclops.integrateddynamics.core.part.aspect;
 import lombok.Getter;
 import lombok.NonNull;
 import org.apache.commons.lang3.tuple.Pair;
+import org.cyclops.integrateddynamics.GeneralConfig;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
 import org.cyclops.integrateddynamics.api.part.IPartState;
@@ -12,6 +13,7 @@ import org.cyclops.integrateddynamics.api.part.PartTarget;
 import org.cyclops.integrateddynamics.api.part.aspect.IAspectRead;
 import org.cyclops.integrateddynamics.api.part.aspect.IAspectVariable;
 import org.cyclops.integrateddynamics.api.part.aspect.property.IAspectProperties;
+import org.cyclops.integrateddynamics.core.evaluate.variable.Variable;
 
 /**
  * Variable for a specific aspect from a part that calculates its target value only maximum once per ticking interval.
@@ -25,6 +27,9 @@ public abstract class LazyAspectVariable<V extends IValue> implements IAspectVar
     @Getter private final IAspectRead<V, ?> aspect;
     @NonNull private V value;
     private IAspectProperties cachedProperties = null;
+    private boolean targetChanged = false;
+    private long valueTick = 0;
+    private long version = 0;
 
     public LazyAspectVariable(IValueType<V> type, PartTarget target, IAspectRead<V, ?> aspect) {
         this.type = type;
@@ -34,23 +39,52 @@ public abstract class LazyAspectVariable<V extends IValue> implements IAspectVar
 
     @Override
     public boolean requiresUpdate() {
-        return value != null;
+        if (value == null) {
+            return false;
+        }
+        if (GeneralConfig.eventDrivenReaders && getAspect().isEventDriven()) {
+            // Targets that may change without notifying their neighbours are still refreshed once in a while.
+            int maxIdleTicks = GeneralConfig.eventDrivenReadersMaxIdleTicks;
+            return targetChanged || (maxIdleTicks > 0 && getWorldTime() - valueTick >= maxIdleTicks);
+        }
+        return true;
     }
 
     @Override
     public void update() {
+        if (value != null) {
+            // The next read may return a different value, so consumers that depend on the current one must refresh.
+            version++;
+        }
         value = null;
         cachedProperties = null;
     }
 
+    @Override
+    public void onTargetChanged() {
+        targetChanged = true;
+    }
+
     @Override
     public V getValue() {
         if(value == null) {
+            this.targetChanged = false;
+            this.valueTick = getWorldTime();
             this.value = getValueLazy();
         }
         return this.value;
     }
 
+    @Override
+    public long getVersion() {
+        // Entities may change between updates of this variable, so operators on them must always be re-evaluated.
+        return Variable.isStateful(getType(), value) ? VERSION_UNKNOWN : version;
+    }
+
+    protected long getWorldTime() {
+        return getTarget().getCenter().getPos().getWorld().getTotalWorldTime();
+    }
+
     protected IAspectProperties getAspectProperties() {
         if(cachedProperties == null && getAspect().hasProperties()) {
             PartPos pos = getTarget().getCenter();
@@ -19,6 +19,7 @@ import org.cyclops.cyclopscore.config.extendedconfig.BlockConfig;
 import org.cyclops.cyclopscore.helper.BlockHelpers;
 import org.cyclops.cyclopscore.helper.L10NHelpers;
 import org.cyclops.cyclopscore.helper.MinecraftHelpers;
+import org.cyclops.integrateddynamics.GeneralConfig;
 import org.cyclops.integrateddynamics.IntegratedDynamics;
 import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
@@ -36,6 +37,7 @@ import org.cyclops.integrateddynamics.core.evaluate.variable.ValueHelpers;
 import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypes;
 import org.cyclops.integrateddynamics.core.helper.L10NValues;
 import org.cyclops.integrateddynamics.core.helper.NetworkHelpers;
+import org.cyclops.integrateddynamics.core.helper.PartHelpers;
 import org.cyclops.integrateddynamics.core.helper.WrenchHelpers;
 import org.cyclops.integrateddynamics.core.network.event.NetworkElementAddEvent;
 import org.cyclops.integrateddynamics.core.network.event.VariableContentsUpdatedEvent;
@@ -142,8 +144,13 @@ public abstract class PartTypePanelVariableDriven<P extends PartTypePanelVariabl
             // tick-1: Tile tick: notices and update, marks a block update
             // tick-1: Part tick: update the value again, the old value has still not been sent here!
             // tick-1: -- send all block updates to client --- This will contain the value that was set in tick-1.
+            // When delta syncing is enabled, only the changed display value is sent, without a block update.
             state.onDirty();
-            BlockHelpers.markForUpdate(target.getCenter().getPos().getWorld(), target.getCenter().getPos().getBlockPos());
+            if (GeneralConfig.partDeltaSync) {
+                PartHelpers.syncPartToClients(target.getCenter());
+            } else {
+                BlockHelpers.markForUpdate(target.getCenter().getPos().getWorld(), target.getCenter().getPos().getBlockPos());
+            }
         }
     }
 
@@ -263,17 +270,38 @@ public abstract class PartTypePanelVariableDriven<P extends PartTypePanelVariabl
         @Override
         public void writeToNBT(NBTTagCompound tag) {
             super.writeToNBT(tag);
-            IValue value = getDisplayValue();
-            if(value != null) {
-                tag.setString("displayValueType", value.getType().getUnlocalizedName());;
-                tag.setString("displayValue", value.getType().serialize(value));
-            }
+            writeDisplayValue(tag);
             tag.setInteger("facingRotation", facingRotation.ordinal());
         }
 
         @Override
         public void readFromNBT(NBTTagCompound tag) {
             super.readFromNBT(tag);
+            readDisplayValue(tag);
+            facingRotation = EnumFacing.values()[Math.max(2, tag.getInteger("facingRotation"))];
+        }
+
+        @Override
+        public void writeClientSyncNBT(NBTTagCompound tag) {
+            super.writeClientSyncNBT(tag);
+            writeDisplayValue(tag);
+        }
+
+        @Override
+        public void readClientSyncNBT(NBTTagCompound tag) {
+            super.readClientSyncNBT(tag);
+            readDisplayValue(tag);
+        }
+
+        protected void writeDisplayValue(NBTTagCompound tag) {
+            IValue value = getDisplayValue();
+            if(value != null) {
+                tag.setString("displayValueType", value.getType().getUnlocalizedName());
+                tag.setString("displayValue", value.getType().serialize(value));
+            }
+        }
+
+        protected void readDisplayValue(NBTTagCompound tag) {
             if(tag.hasKey("displayValueType", MinecraftHelpers.NBTTag_Types.NBTTagString.ordinal())
                     && tag.hasKey("displayValue", MinecraftHelpers.NBTTag_Types.NBTTagString.ordinal())) {
                 IValueType valueType = ValueTypes.REGISTRY.getValueType(tag.getString("displayValueType"));
@@ -293,7 +321,6 @@ public abstract class PartTypePanelVariableDriven<P extends PartTypePanelVariabl
             } else {
                 setDisplayValue(null);
             }
-            facingRotation = EnumFacing.values()[Math.max(2, tag.getInteger("facingRotation"))];
         }
     }
 
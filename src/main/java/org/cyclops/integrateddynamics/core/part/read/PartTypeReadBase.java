@@ -1,7 +1,9 @@
 package org.cyclops.integrateddynamics.core.part.read;
 
+import net.minecraft.block.Block;
 import net.minecraft.client.gui.GuiScreen;
 import net.minecraft.inventory.Container;
+import net.minecraft.world.IBlockAccess;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
@@ -57,6 +59,18 @@ public abstract class PartTypeReadBase<P extends IPartTypeReader<P, S>, S extend
         }
     }
 
+    @Override
+    public void onBlockNeighborChange(INetwork network, IPartNetwork partNetwork, PartTarget target, S state,
+                                      IBlockAccess world, Block neighborBlock) {
+        super.onBlockNeighborChange(network, partNetwork, target, state, world, neighborBlock);
+        for(IAspectRead aspect : getReadAspects()) {
+            IAspectVariable variable = state.getVariable(aspect);
+            if (variable != null) {
+                variable.onTargetChanged();
+            }
+        }
+    }
+
     @Override
     public List<IAspectRead> getReadAspects() {
         if (aspectsRead == null) {
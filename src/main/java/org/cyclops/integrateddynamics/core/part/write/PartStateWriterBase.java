@@ -51,6 +51,18 @@ public class PartStateWriterBase<P extends IPartTypeWriter>
         super.readFromNBT(tag);
     }
 
+    @Override
+    public void writeClientSyncNBT(NBTTagCompound tag) {
+        NBTClassType.getType(Map.class, this.errorMessages).writePersistedField("errorMessages", this.errorMessages, tag);
+        super.writeClientSyncNBT(tag);
+    }
+
+    @Override
+    public void readClientSyncNBT(NBTTagCompound tag) {
+        this.errorMessages = (Map<String, List<L10NHelpers.UnlocalizedString>>) NBTClassType.getType(Map.class, this.errorMessages).readPersistedField("errorMessages", tag);
+        super.readClientSyncNBT(tag);
+    }
+
     @Override
     protected void validate(IPartNetwork network) {
         // Note that this is only called server-side, so these errors are sent via NBT to the client(s).
@@ -116,7 +128,7 @@ public class PartStateWriterBase<P extends IPartTypeWriter>
             CollectionHelpers.addToMapList(errorMessages, aspect.getUnlocalizedName(), error);
         }
         onDirty();
-        sendUpdate(); // We want this error messages to be sent to the client(s).
+        sendSyncUpdate(); // We want this error messages to be sent to the client(s).
     }
 
     @Override
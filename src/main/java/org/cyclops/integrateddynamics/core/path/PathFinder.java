@@ -1,9 +1,17 @@
 package org.cyclops.integrateddynamics.core.path;
 
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Queues;
 import com.google.common.collect.Sets;
 import org.cyclops.cyclopscore.datastructure.DimPos;
 import org.cyclops.integrateddynamics.api.path.IPathElement;
 
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 
@@ -44,4 +52,117 @@ public final class PathFinder {
         return new Cluster(getConnectedElements(head, Sets.<DimPos>newTreeSet()));
     }
 
+    /**
+     * Find the clusters that are not connected anymore to the largest cluster among the given path elements,
+     * for example after a connection between them was removed.
+     *
+     * A search is started from each element, and all searches are advanced one element at a time.
+     * Searches that reach each other are merged, and searching stops as soon as only one search has not finished yet.
+     * This means that the remaining cluster is never fully traversed,
+     * so the cost is proportional to the size of the detached clusters.
+     * @param heads The path elements to start from.
+     * @return The detached clusters, this is empty if all given elements are still connected.
+     */
+    public static List<Cluster> getDetachedClusters(Collection<IPathElement> heads) {
+        Map<DimPos, Search> owners = Maps.newHashMap();
+        List<Search> active = Lists.newArrayList();
+        for (IPathElement head : heads) {
+            if (!owners.containsKey(head.getPosition())) {
+                Search search = new Search(head);
+                owners.put(head.getPosition(), search);
+                active.add(search);
+            }
+        }
+
+        List<Cluster> detached = Lists.newArrayList();
+        while (countRunning(active) > 1) {
+            Iterator<Search> it = active.iterator();
+            while (it.hasNext()) {
+                Search search = it.next();
+                if (search.mergedInto != null) {
+                    it.remove();
+                } else if (countRunning(active) <= 1) {
+                    break;
+                } else if (!search.step(owners)) {
+                    it.remove();
+                    detached.add(new Cluster(search.elements));
+                }
+            }
+        }
+        return detached;
+    }
+
+    protected static int countRunning(List<Search> searches) {
+        int count = 0;
+        for (Search search : searches) {
+            if (search.mergedInto == null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * A breadth-first search that can absorb other searches it runs into.
+     */
+    protected static class Search {
+
+        private final Deque<IPathElement> queue = Queues.newArrayDeque();
+        private TreeSet<IPathElement> elements = Sets.newTreeSet();
+        private Search mergedInto = null;
+
+        public Search(IPathElement head) {
+            queue.add(head);
+            elements.add(head);
+        }
+
+        protected Search resolve() {
+            Search search = this;
+            while (search.mergedInto != null) {
+                search = search.mergedInto;
+            }
+            return search;
+        }
+
+        /**
+         * Visit the next element in the queue.
+         * @param owners The searches that have reached each position.
+         * @return If this search has not finished yet.
+         */
+        protected boolean step(Map<DimPos, Search> owners) {
+            IPathElement element = queue.poll();
+            if (element == null) {
+                return false;
+            }
+            for (IPathElement neighbour : element.getReachableElements()) {
+                Search owner = owners.get(neighbour.getPosition());
+                if (owner == null) {
+                    owners.put(neighbour.getPosition(), this);
+                    queue.add(neighbour);
+                    elements.add(neighbour);
+                } else {
+                    owner = owner.resolve();
+                    if (owner != this) {
+                        absorb(owner);
+                    }
+                }
+            }
+            return true;
+        }
+
+        protected void absorb(Search other) {
+            // Keep the largest element set, so that the total merge cost stays low.
+            if (other.elements.size() > this.elements.size()) {
+                TreeSet<IPathElement> elements = this.elements;
+                this.elements = other.elements;
+                other.elements = elements;
+            }
+            this.elements.addAll(other.elements);
+            this.queue.addAll(other.queue);
+            other.elements = null;
+            other.queue.clear();
+            other.mergedInto = this;
+        }
+    }
+
 }
@@ -1,5 +1,6 @@
 package org.cyclops.integrateddynamics.core.persist.world;
 
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Sets;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
@@ -8,13 +9,16 @@ import org.cyclops.cyclopscore.init.ModBase;
 import org.cyclops.cyclopscore.persist.nbt.NBTPersist;
 import org.cyclops.cyclopscore.persist.world.WorldStorage;
 import org.cyclops.integrateddynamics.api.network.INetwork;
+import org.cyclops.integrateddynamics.core.ChunkHandler;
 import org.cyclops.integrateddynamics.core.network.Network;
 
-import java.util.Collections;
 import java.util.Set;
 
 /**
  * World NBT storage for all active networks.
+ *
+ * Networks are kept in insertion order, so that they are always ticked in the same order.
+ * Readers iterate over an immutable snapshot, which is only rebuilt after networks were added or removed.
  * @author rubensworks
  */
 public class NetworkWorldStorage extends WorldStorage {
@@ -22,7 +26,8 @@ public class NetworkWorldStorage extends WorldStorage {
     private static NetworkWorldStorage INSTANCE = null;
 
     @NBTPersist
-    private Set<INetwork> networks = Sets.newHashSet();
+    private Set<INetwork> networks = Sets.newLinkedHashSet();
+    private volatile ImmutableSet<INetwork> networksSnapshot = null;
 
     private NetworkWorldStorage(ModBase mod) {
         super(mod);
@@ -37,28 +42,32 @@ public class NetworkWorldStorage extends WorldStorage {
 
     @Override
     public void readGeneratedFieldsFromNBT(NBTTagCompound tag) {
-        // TODO: backwards compat, remove in next major MC update.
-        if (tag.hasKey("networks", MinecraftHelpers.NBTTag_Types.NBTTagCompound.ordinal())
-                && "org.cyclops.integrateddynamics.core.network.PartNetwork".equals(tag.getCompoundTag("networks").getString("elementType"))) {
+        // The networks are the only persisted field, they are read manually in the order in which they were written,
+        // because the default collection deserialization does not preserve the order.
+        // This also handles older saves of which the element type is PartNetwork.
+        networks = Sets.newLinkedHashSet();
+        if (tag.hasKey("networks", MinecraftHelpers.NBTTag_Types.NBTTagCompound.ordinal())) {
             NBTTagCompound collectionTag = tag.getCompoundTag("networks");
-            networks = Sets.newHashSet();
             NBTTagList list = collectionTag.getTagList("collection", MinecraftHelpers.NBTTag_Types.NBTTagCompound.ordinal());
-            if(list.tagCount() > 0) {
-                for (int i = 0; i < list.tagCount(); i++) {
-                    NBTTagCompound entryTag = list.getCompoundTagAt(i);
-                    Network network = new Network();
-                    network.fromNBT(entryTag.getCompoundTag("element"));
-                    networks.add(network);
-                }
+            for (int i = 0; i < list.tagCount(); i++) {
+                NBTTagCompound entryTag = list.getCompoundTagAt(i);
+                Network network = new Network();
+                network.fromNBT(entryTag.getCompoundTag("element"));
+                networks.add(network);
             }
-        } else {
-            super.readGeneratedFieldsFromNBT(tag);
         }
+        onNetworksChanged();
     }
 
     @Override
-    public void reset() {
+    public synchronized void reset() {
         networks.clear();
+        ChunkHandler.getInstance().clearNetworkChunks();
+        onNetworksChanged();
+    }
+
+    protected void onNetworksChanged() {
+        networksSnapshot = null;
     }
 
     @Override
@@ -71,7 +80,9 @@ public class NetworkWorldStorage extends WorldStorage {
      * @param network The network.
      */
     public synchronized void addNewNetwork(INetwork network) {
-        networks.add(network);
+        if (networks.add(network)) {
+            onNetworksChanged();
+        }
     }
 
     /**
@@ -80,26 +91,38 @@ public class NetworkWorldStorage extends WorldStorage {
      * @param network The network.
      */
     public synchronized void removeInvalidatedNetwork(INetwork network) {
-        networks.remove(network);
+        if (networks.remove(network)) {
+            onNetworksChanged();
+        }
     }
 
     /**
-     * @return A thread-safe copy of the current network set.
+     * @return An immutable snapshot of the current networks, in the order in which they were added.
      */
-    public synchronized Set<INetwork> getNetworks() {
-        return Collections.unmodifiableSet(Sets.newHashSet(networks));
+    public Set<INetwork> getNetworks() {
+        ImmutableSet<INetwork> snapshot = networksSnapshot;
+        if (snapshot == null) {
+            synchronized (this) {
+                snapshot = networksSnapshot;
+                if (snapshot == null) {
+                    snapshot = ImmutableSet.copyOf(networks);
+                    networksSnapshot = snapshot;
+                }
+            }
+        }
+        return snapshot;
     }
 
     @Override
     public void afterLoad() {
-        for(INetwork network : networks) {
+        for(INetwork network : getNetworks()) {
             network.afterServerLoad();
         }
     }
 
     @Override
     public void beforeSave() {
-        for(INetwork network : networks) {
+        for(INetwork network : getNetworks()) {
             network.beforeServerStop();
         }
     }
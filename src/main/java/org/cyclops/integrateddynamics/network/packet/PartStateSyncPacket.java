@@ -0,0 +1,86 @@
+package org.cyclops.integrateddynamics.network.packet;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+import org.cyclops.cyclopscore.network.CodecField;
+import org.cyclops.cyclopscore.network.PacketCodec;
+import org.cyclops.cyclopscore.tileentity.CyclopsTileEntity;
+import org.cyclops.integrateddynamics.api.part.IPartContainer;
+import org.cyclops.integrateddynamics.api.part.IPartState;
+import org.cyclops.integrateddynamics.api.part.IPartType;
+import org.cyclops.integrateddynamics.core.helper.PartHelpers;
+
+/**
+ * Packet for sending the changed client-side fields of a part state to a client.
+ * @author rubensworks
+ *
+ */
+public class PartStateSyncPacket extends PacketCodec {
+
+    @CodecField
+    private int x;
+    @CodecField
+    private int y;
+    @CodecField
+    private int z;
+    @CodecField
+    private int side;
+    @CodecField
+    private NBTTagCompound delta;
+
+    public PartStateSyncPacket() {
+
+    }
+
+    public PartStateSyncPacket(BlockPos pos, EnumFacing side, NBTTagCompound delta) {
+		this.x = pos.getX();
+		this.y = pos.getY();
+		this.z = pos.getZ();
+		this.side = side.ordinal();
+		this.delta = delta;
+    }
+
+	@Override
+	public boolean isAsync() {
+		return false;
+	}
+
+	@Override
+	@SideOnly(Side.CLIENT)
+	public void actionClient(World world, EntityPlayer player) {
+		BlockPos pos = new BlockPos(x, y, z);
+		EnumFacing side = EnumFacing.VALUES[this.side];
+		IPartContainer partContainer = world.isBlockLoaded(pos) ? PartHelpers.getPartContainer(world, pos) : null;
+		if (partContainer != null && partContainer.hasPart(side)) {
+			IPartType partType = partContainer.getPart(side);
+			IPartState partState = partContainer.getPartState(side);
+			IBlockState blockStateBefore = partType.getBlockState(partContainer, side);
+			NBTTagCompound tag = new NBTTagCompound();
+			partState.writeClientSyncNBT(tag);
+			PartHelpers.applyNbtDelta(tag, delta);
+			partState.readClientSyncNBT(tag);
+			// Only re-render the block if the synced fields influence the part model, such as its status.
+			if (!blockStateBefore.equals(partType.getBlockState(partContainer, side))) {
+				TileEntity tile = world.getTileEntity(pos);
+				if (tile instanceof CyclopsTileEntity) {
+					((CyclopsTileEntity) tile).onUpdateReceived();
+				}
+				world.markBlockRangeForRenderUpdate(pos, pos);
+			}
+		}
+	}
+
+	@Override
+	public void actionServer(World world, EntityPlayerMP player) {
+
+	}
+
+}
@@ -1,5 +1,7 @@
 package org.cyclops.integrateddynamics.part;
 
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import gnu.trove.map.TIntObjectMap;
 import gnu.trove.map.hash.TIntObjectHashMap;
@@ -10,16 +12,19 @@ import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.EnumHand;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.util.text.TextComponentTranslation;
 import net.minecraft.world.World;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.fml.common.event.FMLServerStartedEvent;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import net.minecraftforge.fml.common.gameevent.PlayerEvent;
+import org.cyclops.cyclopscore.datastructure.DimPos;
 import org.cyclops.cyclopscore.helper.ItemStackHelpers;
 import org.cyclops.cyclopscore.helper.L10NHelpers;
 import org.cyclops.cyclopscore.helper.MinecraftHelpers;
 import org.cyclops.cyclopscore.helper.TileHelpers;
+import org.cyclops.integrateddynamics.GeneralConfig;
 import org.cyclops.integrateddynamics.IntegratedDynamics;
 import org.cyclops.integrateddynamics.api.network.INetwork;
 import org.cyclops.integrateddynamics.api.network.IPartNetwork;
@@ -36,6 +41,7 @@ import org.cyclops.integrateddynamics.core.helper.NetworkHelpers;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -196,6 +202,8 @@ public class PartTypeConnectorOmniDirectional extends PartTypeConnector<PartType
 
         private int groupId = -1;
         private boolean addedToGroup = false;
+        private Set<IPathElement> reachableElements = null;
+        private int reachableElementsVersion = -1;
 
         @Override
         public void writeToNBT(NBTTagCompound tag) {
@@ -212,17 +220,19 @@ public class PartTypeConnectorOmniDirectional extends PartTypeConnector<PartType
         @Override
         public Set<IPathElement> getReachableElements() {
             if (hasConnectorId()) {
-                Set<IPathElement> pathElements = Sets.newTreeSet();
-                for (PartPos pos : PartTypeConnectorOmniDirectional.LOADED_GROUPS.getPositions(getGroupId())) {
-                    if (!pos.equals(this.getPartPos())) {
-                        IPathElement pathElement = TileHelpers.getCapability(pos.getPos(), pos.getSide(),
-                                PathElementConfig.CAPABILITY);
-                        if (pathElement != null) {
-                            pathElements.add(pathElement);
+                int version = PartTypeConnectorOmniDirectional.LOADED_GROUPS.getVersion(getGroupId());
+                if (reachableElements == null || reachableElementsVersion != version) {
+                    Set<IPathElement> pathElements = Sets.newTreeSet();
+                    for (Map.Entry<PartPos, IPathElement> entry : PartTypeConnectorOmniDirectional.LOADED_GROUPS
+                            .getPathElements(getGroupId()).entrySet()) {
+                        if (!entry.getKey().equals(this.getPartPos())) {
+                            pathElements.add(entry.getValue());
                         }
                     }
+                    reachableElements = Collections.unmodifiableSet(pathElements);
+                    reachableElementsVersion = version;
                 }
-                return pathElements;
+                return reachableElements;
             }
             return Collections.emptySet();
         }
@@ -233,6 +243,7 @@ public class PartTypeConnectorOmniDirectional extends PartTypeConnector<PartType
 
         public void setGroupId(int groupId) {
             this.groupId = groupId;
+            this.reachableElements = null;
             sendUpdate();
         }
 
@@ -249,19 +260,93 @@ public class PartTypeConnectorOmniDirectional extends PartTypeConnector<PartType
         }
     }
 
+    /**
+     * All loaded connector positions, per group.
+     *
+     * Each group acts as a single virtual hub that all of its connectors are connected to.
+     * Connectors joining or leaving a group only update the networks around that connector,
+     * and the path elements of a group are cached until its version changes.
+     */
     public static class LoadedGroups {
 
-        private TIntObjectMap<Set<PartPos>> groupPositions = new TIntObjectHashMap<>();
+        private final TIntObjectMap<Group> groups = new TIntObjectHashMap<>();
+        private int versionCounter = 0;
         private boolean modifyingPositions = false;
 
         public void onStartedEvent(FMLServerStartedEvent event) {
             // Reset to avoid ghost-groups on world-change.
-            groupPositions.clear();
+            groups.clear();
+        }
+
+        protected Group getOrCreateGroup(int group) {
+            Group groupData = groups.get(group);
+            if (groupData == null) {
+                groups.put(group, groupData = new Group());
+            }
+            return groupData;
+        }
+
+        protected void onGroupChanged(Group group) {
+            group.version = ++versionCounter;
+            group.pathElements = null;
         }
 
         public Set<PartPos> getPositions(int group) {
-            Set<PartPos> positions = groupPositions.get(group);
-            return positions != null ? positions : Collections.<PartPos>emptySet();
+            Group groupData = groups.get(group);
+            return groupData != null ? Collections.unmodifiableSet(groupData.positions) : Collections.<PartPos>emptySet();
+        }
+
+        /**
+         * @param group The group id.
+         * @return A counter that changes each time the positions in the given group or their path elements change.
+         */
+        public int getVersion(int group) {
+            Group groupData = groups.get(group);
+            return groupData != null ? groupData.version : 0;
+        }
+
+        /**
+         * @param group The group id.
+         * @return The path elements of all loaded positions in the given group.
+         */
+        public Map<PartPos, IPathElement> getPathElements(int group) {
+            Group groupData = groups.get(group);
+            if (groupData == null) {
+                return Collections.emptyMap();
+            }
+            if (groupData.pathElements == null) {
+                Map<PartPos, IPathElement> pathElements = Maps.newHashMap();
+                for (PartPos pos : groupData.positions) {
+                    if (pos.getPos().isLoaded()) {
+                        IPathElement pathElement = TileHelpers.getCapability(pos.getPos(), pos.getSide(),
+                                PathElementConfig.CAPABILITY);
+                        if (pathElement != null) {
+                            pathElements.put(pos, pathElement);
+                        }
+                    }
+                }
+                groupData.pathElements = pathElements;
+            }
+            return groupData.pathElements;
+        }
+
+        /**
+         * Called when a chunk is loaded or unloaded,
+         * so that the cached path elements of groups with positions in that chunk are invalidated.
+         * @param dimension The dimension id.
+         * @param chunk The chunk position.
+         */
+        public void onChunkChanged(int dimension, ChunkPos chunk) {
+            for (Group group : groups.valueCollection()) {
+                for (PartPos pos : group.positions) {
+                    if (pos.getPos().getDimensionId() == dimension
+                            && (pos.getPos().getBlockPos().getX() >> 4) == chunk.x
+                            && (pos.getPos().getBlockPos().getZ() >> 4) == chunk.z) {
+                        onGroupChanged(group);
+                        break;
+                    }
+                }
+            }
         }
 
         protected void initNetworkGroup(Set<PartPos> positions) {
@@ -273,31 +358,46 @@ public class PartTypeConnectorOmniDirectional extends PartTypeConnector<PartType
         }
 
         public void addPosition(int group, PartPos pos, boolean initNetwork) {
-            Set<PartPos> positions = groupPositions.get(group);
-            if (positions == null) {
-                groupPositions.put(group, positions = Sets.newTreeSet());
+            Group groupData = getOrCreateGroup(group);
+            if (groupData.positions.add(pos)) {
+                onGroupChanged(groupData);
             }
-            positions.add(pos);
 
             if (initNetwork) {
                 modifyingPositions = true;
-                initNetworkGroup(positions);
+                if (GeneralConfig.incrementalNetworkTopology) {
+                    // Only the new connector has to be connected to the networks of the other loaded connectors.
+                    if (pos.getPos().isLoaded()) {
+                        NetworkHelpers.joinNetworks(pos.getPos().getWorld(), pos.getPos().getBlockPos());
+                    }
+                } else {
+                    initNetworkGroup(groupData.positions);
+                }
                 modifyingPositions = false;
             }
         }
 
         public void removePosition(int group, PartPos pos, boolean initNetwork) {
-            Set<PartPos> positions = groupPositions.get(group);
-            if (positions == null) {
-                groupPositions.put(group, positions = Sets.newTreeSet());
+            Group groupData = getOrCreateGroup(group);
+            if (groupData.positions.remove(pos)) {
+                onGroupChanged(groupData);
             }
-            positions.remove(pos);
 
             if (initNetwork) {
                 modifyingPositions = true;
-                initNetworkGroup(positions);
-                if (pos.getPos().isLoaded()) {
-                    NetworkHelpers.initNetwork(pos.getPos().getWorld(), pos.getPos().getBlockPos());
+                if (GeneralConfig.incrementalNetworkTopology) {
+                    // Only the connectors that are not connected anymore to the rest of the network are split off.
+                    List<DimPos> positions = Lists.newArrayListWithExpectedSize(groupData.positions.size() + 1);
+                    positions.add(pos.getPos());
+                    for (PartPos position : groupData.positions) {
+                        positions.add(position.getPos());
+                    }
+                    NetworkHelpers.splitNetworks(positions);
+                } else {
+                    initNetworkGroup(groupData.positions);
+                    if (pos.getPos().isLoaded()) {
+                        NetworkHelpers.initNetwork(pos.getPos().getWorld(), pos.getPos().getBlockPos());
+                    }
                 }
                 modifyingPositions = false;
             }
@@ -306,5 +406,11 @@ public class PartTypeConnectorOmniDirectional extends PartTypeConnector<PartType
         public boolean isModifyingPositions() {
             return modifyingPositions;
         }
+
+        protected static class Group {
+            private final Set<PartPos> positions = Sets.newTreeSet();
+            private int version = 0;
+            private Map<PartPos, IPathElement> pathElements = null;
+        }
     }
 }
@@ -49,6 +49,18 @@ public abstract class AspectReadBase<V extends IValue, T extends IValueType<V>>
         }
     }
 
+    @Override
+    public <P extends IPartType<P, S>, S extends IPartState<P>> void setProperties(P partType, PartTarget target, S state, IAspectProperties properties) {
+        super.setProperties(partType, target, state, properties);
+        // Make sure that event-driven variables take into account the new properties.
+        if (state instanceof IPartStateReader) {
+            IAspectVariable<V> variable = ((IPartStateReader<?>) state).getVariable(this);
+            if (variable != null) {
+                variable.onTargetChanged();
+            }
+        }
+    }
+
     protected String getUnlocalizedType() {
         return "read" + this.unlocalizedTypeSuffix;
     }
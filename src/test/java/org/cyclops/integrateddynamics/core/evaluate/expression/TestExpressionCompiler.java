@@ -0,0 +1,124 @@
+package org.cyclops.integrateddynamics.core.evaluate.expression;
+
+import com.google.common.collect.Maps;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.expression.ILazyExpressionValueCache;
+import org.cyclops.integrateddynamics.api.evaluate.operator.IOperator;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
+import org.cyclops.integrateddynamics.core.evaluate.operator.Operators;
+import org.cyclops.integrateddynamics.core.evaluate.variable.DummyVariableInteger;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeBoolean;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeInteger;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypes;
+import org.cyclops.integrateddynamics.core.evaluate.variable.Variable;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the expression compiler.
+ * @author rubensworks
+ */
+public class TestExpressionCompiler {
+
+    private ValueCache cache;
+    private DummyVariableInteger i1;
+    private DummyVariableInteger i2;
+    private int nextId;
+
+    @Before
+    public void before() {
+        cache = new ValueCache();
+        i1 = new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(3));
+        i2 = new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(4));
+        nextId = 0;
+    }
+
+    protected LazyExpression expression(IOperator operator, IVariable... input) {
+        return new LazyExpression(nextId++, operator, input, cache);
+    }
+
+    protected int evaluate(LazyExpression expression) throws EvaluationException {
+        cache.values.clear();
+        return ((ValueTypeInteger.ValueInteger) expression.getValue()).getRawValue();
+    }
+
+    @Test
+    public void testSharedSubexpressions() throws EvaluationException {
+        LazyExpression a1 = expression(Operators.ARITHMETIC_ADDITION, i1, i2);
+        LazyExpression a2 = expression(Operators.ARITHMETIC_ADDITION, i1, i2);
+        LazyExpression root = expression(Operators.ARITHMETIC_MULTIPLICATION, a1, a2);
+
+        LazyExpression compiled = ExpressionCompiler.compile(root);
+        assertThat("compiled is a program", compiled, instanceOf(CompiledExpression.class));
+        assertThat("the addition is shared", ((CompiledExpression) compiled).getOperatorCount(), is(2));
+        assertThat("(3 + 4) * (3 + 4) = 49", evaluate(compiled), is(49));
+        assertThat("compiled equals original", evaluate(compiled), is(evaluate(root)));
+
+        i1.setValue(ValueTypeInteger.ValueInteger.of(1));
+        assertThat("(1 + 4) * (1 + 4) = 25", evaluate(compiled), is(25));
+    }
+
+    @Test
+    public void testConstantFolding() throws EvaluationException {
+        LazyExpression constant = expression(Operators.ARITHMETIC_ADDITION,
+                new Variable<>(ValueTypeInteger.ValueInteger.of(1)), new Variable<>(ValueTypeInteger.ValueInteger.of(2)));
+        LazyExpression root = expression(Operators.ARITHMETIC_MULTIPLICATION, constant, i1);
+
+        CompiledExpression compiled = (CompiledExpression) ExpressionCompiler.compile(root);
+        assertThat("the addition is folded", compiled.getOperatorCount(), is(1));
+        assertThat("(1 + 2) * 3 = 9", evaluate(compiled), is(9));
+    }
+
+    @Test
+    public void testChoicePruning() throws EvaluationException {
+        LazyExpression a1 = expression(Operators.ARITHMETIC_ADDITION, i1, i2);
+        LazyExpression a2 = expression(Operators.ARITHMETIC_SUBTRACTION, i1, i2);
+        LazyExpression root = expression(Operators.GENERAL_CHOICE,
+                new Variable<>(ValueTypes.BOOLEAN, ValueTypeBoolean.ValueBoolean.of(false)), a1, a2);
+
+        CompiledExpression compiled = (CompiledExpression) ExpressionCompiler.compile(root);
+        assertThat("only the false branch remains", compiled.getOperatorCount(), is(1));
+        assertThat("false ? 3 + 4 : 3 - 4 = -1", evaluate(compiled), is(-1));
+        assertThat("compiled keeps the original operator", compiled.getOperator(), is(Operators.GENERAL_CHOICE));
+    }
+
+    @Test(expected = EvaluationException.class)
+    public void testErrors() throws EvaluationException {
+        LazyExpression root = expression(Operators.ARITHMETIC_DIVISION,
+                i1, new Variable<>(ValueTypeInteger.ValueInteger.of(0)));
+        LazyExpression compiled = ExpressionCompiler.compile(root);
+        try {
+            evaluate(compiled);
+        } finally {
+            assertThat("compiled has errored", compiled.hasErrored(), is(true));
+        }
+    }
+
+    public static class ValueCache implements ILazyExpressionValueCache {
+
+        protected final Map<Integer, IValue> values = Maps.newHashMap();
+
+        @Override
+        public void setValue(int id, IValue value) {
+            values.put(id, value);
+        }
+
+        @Override
+        public boolean hasValue(int id) {
+            return values.containsKey(id);
+        }
+
+        @Override
+        public IValue getValue(int id) {
+            return values.get(id);
+        }
+    }
+
+}
@@ -0,0 +1,98 @@
+package org.cyclops.integrateddynamics.core.evaluate.expression;
+
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
+import org.cyclops.integrateddynamics.core.evaluate.operator.Operators;
+import org.cyclops.integrateddynamics.core.evaluate.variable.DummyVariableInteger;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeInteger;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the memoization of lazy expressions.
+ * @author rubensworks
+ */
+public class TestLazyExpression {
+
+    private EpochValueCache cache;
+    private VersionedVariableInteger i1;
+    private VersionedVariableInteger i2;
+
+    @Before
+    public void before() {
+        cache = new EpochValueCache();
+        i1 = new VersionedVariableInteger(ValueTypeInteger.ValueInteger.of(2000));
+        i2 = new VersionedVariableInteger(ValueTypeInteger.ValueInteger.of(3000));
+    }
+
+    @Test
+    public void testMemoized() throws EvaluationException {
+        LazyExpression expression = new LazyExpression(0, Operators.ARITHMETIC_ADDITION, new IVariable[]{i1, i2}, cache);
+        ValueTypeInteger.ValueInteger res1 = (ValueTypeInteger.ValueInteger) expression.getValue();
+        assertThat("2000 + 3000 = 5000", res1.getRawValue(), is(5000));
+
+        cache.clear();
+        assertThat("unchanged inputs reuse the value", expression.getValue(), sameInstance(res1));
+        long version = expression.getVersion();
+
+        cache.clear();
+        i1.setValue(ValueTypeInteger.ValueInteger.of(1000));
+        ValueTypeInteger.ValueInteger res2 = (ValueTypeInteger.ValueInteger) expression.getValue();
+        assertThat("1000 + 3000 = 4000", res2.getRawValue(), is(4000));
+        assertThat("changed inputs change the version", expression.getVersion(), not(version));
+    }
+
+    @Test
+    public void testUnversioned() throws EvaluationException {
+        DummyVariableInteger i3 = new DummyVariableInteger(ValueTypeInteger.ValueInteger.of(4000));
+        LazyExpression expression = new LazyExpression(0, Operators.ARITHMETIC_ADDITION, new IVariable[]{i1, i3}, cache);
+        ValueTypeInteger.ValueInteger res1 = (ValueTypeInteger.ValueInteger) expression.getValue();
+        assertThat("2000 + 4000 = 6000", res1.getRawValue(), is(6000));
+        assertThat("unknown input versions are propagated", expression.getVersion(), is(IVariable.VERSION_UNKNOWN));
+
+        cache.clear();
+        i3.setValue(ValueTypeInteger.ValueInteger.of(5000));
+        assertThat("2000 + 5000 = 7000", ((ValueTypeInteger.ValueInteger) expression.getValue()).getRawValue(), is(7000));
+    }
+
+    public static class EpochValueCache extends TestExpressionCompiler.ValueCache {
+
+        private long epoch = 0;
+
+        public void clear() {
+            values.clear();
+            epoch++;
+        }
+
+        @Override
+        public long getEpoch() {
+            return epoch;
+        }
+    }
+
+    public static class VersionedVariableInteger extends DummyVariableInteger {
+
+        private long version = 0;
+
+        public VersionedVariableInteger(ValueTypeInteger.ValueInteger value) {
+            super(value);
+        }
+
+        @Override
+        public void setValue(ValueTypeInteger.ValueInteger value) {
+            super.setValue(value);
+            version++;
+        }
+
+        @Override
+        public long getVersion() {
+            return version;
+        }
+    }
+
+}
@@ -1,5 +1,6 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
+import org.cyclops.integrateddynamics.GeneralConfig;
 import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueTypeListProxy;
@@ -714,4 +715,94 @@ public class TestListOperators {
         Operators.LIST_SLICE.evaluate(new IVariable[]{DUMMY_VARIABLE, DUMMY_VARIABLE, DUMMY_VARIABLE});
     }
 
+    /**
+     * ----------------------------------- TAKE_WHILE -----------------------------------
+     */
+
+    @Test
+    public void testListTakeWhile() throws EvaluationException {
+        IValue infinite = Operators.LIST_LAZYBUILT.evaluate(new IVariable[]{i0, oIntegerIncrement});
+        DummyVariableOperator threeGreaterThan = new DummyVariableOperator((ValueTypeOperator.ValueOperator)
+                Operators.OPERATOR_APPLY.evaluate(new IVariable[]{
+                        new DummyVariableOperator(ValueTypeOperator.ValueOperator.of(Operators.RELATIONAL_GT)), i3}));
+        IValue res1 = Operators.LIST_TAKE_WHILE.evaluate(new IVariable[]{new DummyVariableList((ValueTypeList.ValueList) infinite), threeGreaterThan});
+        assertThat("result is a list", res1, instanceOf(ValueTypeList.ValueList.class));
+        IValueTypeListProxy<ValueTypeInteger, ValueTypeInteger.ValueInteger> list = ((ValueTypeList.ValueList) res1).getRawValue();
+
+        assertThat("takeWhile([0, 1, ...], 3>)[0] = 0", list.get(0).getRawValue(), is(0));
+        assertThat("takeWhile([0, 1, ...], 3>)[2] = 2", list.get(2).getRawValue(), is(2));
+        assertThat("takeWhile([0, 1, ...], 3>).size = 3", list.getLength(), is(3));
+    }
+
+    @Test(expected = EvaluationException.class)
+    public void testListTakeWhileInfiniteLength() throws EvaluationException {
+        int maxPulls = GeneralConfig.lazyListMaxPulls;
+        GeneralConfig.lazyListMaxPulls = 100;
+        try {
+            IValue infinite = Operators.LIST_LAZYBUILT.evaluate(new IVariable[]{i0, oIntegerIncrement});
+            DummyVariableOperator zeroLessOrEqual = new DummyVariableOperator((ValueTypeOperator.ValueOperator)
+                    Operators.OPERATOR_APPLY.evaluate(new IVariable[]{
+                            new DummyVariableOperator(ValueTypeOperator.ValueOperator.of(Operators.RELATIONAL_LE)), i0}));
+            IValue res1 = Operators.LIST_TAKE_WHILE.evaluate(new IVariable[]{new DummyVariableList((ValueTypeList.ValueList) infinite), zeroLessOrEqual});
+            ((ValueTypeList.ValueList) res1).getRawValue().getLength();
+        } finally {
+            GeneralConfig.lazyListMaxPulls = maxPulls;
+        }
+    }
+
+    protected ValueTypeList.ValueList createInfiniteTakeWhile() throws EvaluationException {
+        IValue infinite = Operators.LIST_LAZYBUILT.evaluate(new IVariable[]{i0, oIntegerIncrement});
+        DummyVariableOperator zeroLessOrEqual = new DummyVariableOperator((ValueTypeOperator.ValueOperator)
+                Operators.OPERATOR_APPLY.evaluate(new IVariable[]{
+                        new DummyVariableOperator(ValueTypeOperator.ValueOperator.of(Operators.RELATIONAL_LE)), i0}));
+        return (ValueTypeList.ValueList) Operators.LIST_TAKE_WHILE.evaluate(new IVariable[]{new DummyVariableList((ValueTypeList.ValueList) infinite), zeroLessOrEqual});
+    }
+
+    @Test
+    public void testListLazyFailingOutsideOperator() throws EvaluationException {
+        int maxPulls = GeneralConfig.lazyListMaxPulls;
+        GeneralConfig.lazyListMaxPulls = 2;
+        try {
+            ValueTypeList.ValueList res1 = createInfiniteTakeWhile();
+            ValueTypeList.ValueList res2 = createInfiniteTakeWhile();
+            assertThat("compact strings only contain the evaluated elements", res1.getRawValue().toCompactString(), is("[0, 1...]"));
+            assertThat("failing lists are hashed by their type", res1.hashCode(), is(ValueTypes.INTEGER.hashCode()));
+            assertThat("failing lists are not equal", res1.equals(res2), is(false));
+        } finally {
+            GeneralConfig.lazyListMaxPulls = maxPulls;
+        }
+    }
+
+    @Test(expected = EvaluationException.class)
+    public void testListLazyFailingMaterialize() throws EvaluationException {
+        int maxPulls = GeneralConfig.lazyListMaxPulls;
+        GeneralConfig.lazyListMaxPulls = 2;
+        try {
+            ValueTypeList.ValueList res1 = createInfiniteTakeWhile();
+            ValueTypes.LIST.materialize(res1);
+        } finally {
+            GeneralConfig.lazyListMaxPulls = maxPulls;
+        }
+    }
+
+    @Test
+    public void testListHeadFilteredInfinite() throws EvaluationException {
+        IValue infinite = Operators.LIST_LAZYBUILT.evaluate(new IVariable[]{i0, oIntegerIncrement});
+        DummyVariableOperator equalsThree = new DummyVariableOperator((ValueTypeOperator.ValueOperator)
+                Operators.OPERATOR_APPLY.evaluate(new IVariable[]{oRelationalEquals, i3}));
+        IValue filtered = Operators.OPERATOR_FILTER.evaluate(new IVariable[]{equalsThree, new DummyVariableList((ValueTypeList.ValueList) infinite)});
+        IValue res1 = Operators.LIST_HEAD.evaluate(new IVariable[]{new DummyVariableList((ValueTypeList.ValueList) filtered)});
+        assertThat("head(filter([0, 1, ...], 3==)) = 3", ((ValueTypeInteger.ValueInteger) res1).getRawValue(), is(3));
+    }
+
+    @Test(expected = EvaluationException.class)
+    public void testInvalidInputSizeTakeWhileSmall() throws EvaluationException {
+        Operators.LIST_TAKE_WHILE.evaluate(new IVariable[]{lintegers});
+    }
+
+    @Test(expected = EvaluationException.class)
+    public void testInvalidInputTypeTakeWhile() throws EvaluationException {
+        Operators.LIST_TAKE_WHILE.evaluate(new IVariable[]{DUMMY_VARIABLE, DUMMY_VARIABLE});
+    }
+
 }
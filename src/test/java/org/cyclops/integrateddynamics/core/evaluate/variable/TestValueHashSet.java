@@ -0,0 +1,52 @@
+package org.cyclops.integrateddynamics.core.evaluate.variable;
+
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the value hash set and list hash codes.
+ * @author rubensworks
+ */
+public class TestValueHashSet {
+
+    @BeforeClass
+    public static void beforeClass() {
+        ValueTypeListProxyFactories.load();
+    }
+
+    @Test
+    public void testAddContains() {
+        ValueHashSet<IValue> set = new ValueHashSet<>();
+        for (int i = 0; i < 100; i++) {
+            assertThat("adding a new value succeeds", set.add(ValueTypeInteger.ValueInteger.of(i)), is(true));
+        }
+        for (int i = 0; i < 100; i++) {
+            assertThat("adding a present value fails", set.add(ValueTypeInteger.ValueInteger.of(i)), is(false));
+        }
+        assertThat(set.size(), is(100));
+        assertThat(set.contains(ValueTypeInteger.ValueInteger.of(50)), is(true));
+        assertThat(set.contains(ValueTypeInteger.ValueInteger.of(100)), is(false));
+        assertThat(set.contains(ValueTypeString.ValueString.of("50")), is(false));
+        assertThat(set.contains(null), is(false));
+    }
+
+    @Test
+    public void testListHashCode() {
+        ValueTypeList.ValueList a = ValueTypeList.ValueList.ofAll(ValueTypeString.ValueString.of("a"), ValueTypeString.ValueString.of("b"));
+        ValueTypeList.ValueList b = ValueTypeList.ValueList.ofAll(ValueTypeString.ValueString.of("a"), ValueTypeString.ValueString.of("b"));
+        ValueTypeList.ValueList c = ValueTypeList.ValueList.ofAll(ValueTypeString.ValueString.of("b"), ValueTypeString.ValueString.of("a"));
+        assertThat(a.equals(b), is(true));
+        assertThat(a.hashCode() == b.hashCode(), is(true));
+        assertThat(a.equals(c), is(false));
+
+        ValueHashSet<IValue> set = new ValueHashSet<>();
+        set.add(a);
+        assertThat(set.contains(b), is(true));
+        assertThat(set.contains(c), is(false));
+    }
+
+}
@@ -1,6 +1,7 @@
 package org.cyclops.integrateddynamics.core.evaluate.variable;
 
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagString;
 import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
 import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
 import org.hamcrest.CoreMatchers;
@@ -137,6 +138,13 @@ public class TestVariables {
                 l2.getType().deserialize(l2.getType().serialize(l2.getValue())), is(l2.getValue()));
         assertThat("deserializing nested list",
                 l2_2.getType().deserialize(l2_2.getType().serialize(l2_2.getValue())), is(l2_2.getValue()));
+
+        assertThat("deserializing string list tag",
+                l2.getType().deserializeTag(l2.getType().serializeTag(l2.getValue())), is(l2.getValue()));
+        assertThat("deserializing nested list tag",
+                l2_2.getType().deserializeTag(l2_2.getType().serializeTag(l2_2.getValue())), is(l2_2.getValue()));
+        assertThat("deserializing string list from a legacy string tag",
+                l2.getType().deserializeTag(new NBTTagString(l2.getType().serialize(l2.getValue()))), is(l2.getValue()));
     }
 
     @Test
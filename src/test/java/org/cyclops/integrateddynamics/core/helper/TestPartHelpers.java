@@ -0,0 +1,119 @@
+package org.cyclops.integrateddynamics.core.helper;
+
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.nbt.NBTTagString;
+import org.cyclops.cyclopscore.helper.MinecraftHelpers;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the NBT deltas that are used for syncing parts.
+ * @author rubensworks
+ */
+public class TestPartHelpers {
+
+    protected static NBTTagCompound createTag() {
+        NBTTagCompound tag = new NBTTagCompound();
+        tag.setInteger("a", 1);
+        tag.setString("b", "b");
+        NBTTagCompound nested = new NBTTagCompound();
+        nested.setBoolean("x", true);
+        nested.setBoolean("y", false);
+        tag.setTag("c", nested);
+        return tag;
+    }
+
+    protected static NBTTagCompound applyDelta(NBTTagCompound previous, NBTTagCompound current) {
+        NBTTagCompound delta = PartHelpers.createNbtDelta(previous, current);
+        NBTTagCompound tag = previous == null ? new NBTTagCompound() : previous.copy();
+        if (delta != null) {
+            PartHelpers.applyNbtDelta(tag, delta);
+        }
+        return tag;
+    }
+
+    @Test
+    public void testDeltaInitial() {
+        NBTTagCompound current = createTag();
+        NBTTagCompound delta = PartHelpers.createNbtDelta(null, current);
+        assertThat(delta.getCompoundTag("changed"), is(current));
+        assertThat(delta.getTagList("removed", MinecraftHelpers.NBTTag_Types.NBTTagString.ordinal()).hasNoTags(), is(true));
+        assertThat(applyDelta(null, current), is(current));
+    }
+
+    @Test
+    public void testDeltaEqual() {
+        assertThat(PartHelpers.createNbtDelta(createTag(), createTag()), nullValue());
+    }
+
+    @Test
+    public void testDeltaChanged() {
+        NBTTagCompound previous = createTag();
+        NBTTagCompound current = createTag();
+        current.setInteger("a", 2);
+        NBTTagCompound delta = PartHelpers.createNbtDelta(previous, current);
+
+        NBTTagCompound expectedChanged = new NBTTagCompound();
+        expectedChanged.setInteger("a", 2);
+        assertThat(delta.getCompoundTag("changed"), is(expectedChanged));
+        assertThat(delta.getTagList("removed", MinecraftHelpers.NBTTag_Types.NBTTagString.ordinal()).hasNoTags(), is(true));
+        assertThat(applyDelta(previous, current), is(current));
+    }
+
+    @Test
+    public void testDeltaAdded() {
+        NBTTagCompound previous = createTag();
+        NBTTagCompound current = createTag();
+        current.setLong("d", 3L);
+        NBTTagCompound delta = PartHelpers.createNbtDelta(previous, current);
+
+        NBTTagCompound expectedChanged = new NBTTagCompound();
+        expectedChanged.setLong("d", 3L);
+        assertThat(delta.getCompoundTag("changed"), is(expectedChanged));
+        assertThat(applyDelta(previous, current), is(current));
+    }
+
+    @Test
+    public void testDeltaRemoved() {
+        NBTTagCompound previous = createTag();
+        NBTTagCompound current = createTag();
+        current.removeTag("b");
+        NBTTagCompound delta = PartHelpers.createNbtDelta(previous, current);
+
+        NBTTagList expectedRemoved = new NBTTagList();
+        expectedRemoved.appendTag(new NBTTagString("b"));
+        assertThat(delta.getCompoundTag("changed").hasNoTags(), is(true));
+        assertThat(delta.getTagList("removed", MinecraftHelpers.NBTTag_Types.NBTTagString.ordinal()), is(expectedRemoved));
+        assertThat(applyDelta(previous, current), is(current));
+    }
+
+    @Test
+    public void testDeltaNestedReplaced() {
+        NBTTagCompound previous = createTag();
+        NBTTagCompound current = createTag();
+        current.getCompoundTag("c").removeTag("y");
+        NBTTagCompound delta = PartHelpers.createNbtDelta(previous, current);
+
+        // Nested tags are sent as a whole, and replace the previous nested tag
+        assertThat(delta.getCompoundTag("changed").getCompoundTag("c"), is(current.getCompoundTag("c")));
+        NBTTagCompound applied = applyDelta(previous, current);
+        assertThat(applied, is(current));
+        assertThat(applied.getCompoundTag("c").hasKey("y"), is(false));
+    }
+
+    @Test
+    public void testDeltaDoesNotShareTags() {
+        NBTTagCompound previous = createTag();
+        NBTTagCompound current = createTag();
+        current.getCompoundTag("c").setBoolean("z", true);
+        NBTTagCompound delta = PartHelpers.createNbtDelta(previous, current);
+
+        current.getCompoundTag("c").setBoolean("z", false);
+        assertThat(delta.getCompoundTag("changed").getCompoundTag("c").getBoolean("z"), is(true));
+    }
+
+}
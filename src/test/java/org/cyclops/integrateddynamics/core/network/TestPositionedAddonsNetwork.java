@@ -0,0 +1,148 @@
+package org.cyclops.integrateddynamics.core.network;
+
+import com.google.common.collect.Lists;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import org.cyclops.cyclopscore.datastructure.DimPos;
+import org.cyclops.integrateddynamics.api.network.IPositionedAddonsNetwork;
+import org.cyclops.integrateddynamics.api.part.PartPos;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the position index of positioned addon networks.
+ * @author rubensworks
+ */
+public class TestPositionedAddonsNetwork {
+
+    private static final PartPos A = pos(1);
+    private static final PartPos B = pos(2);
+    private static final PartPos C = pos(3);
+
+    private PositionedAddonsNetwork network;
+
+    @Before
+    public void before() {
+        network = new PositionedAddonsNetwork();
+    }
+
+    protected static PartPos pos(int x) {
+        return PartPos.of(DimPos.of(0, new BlockPos(x, 0, 0)), EnumFacing.NORTH);
+    }
+
+    protected static List<PartPos> toPositions(Iterable<IPositionedAddonsNetwork.PrioritizedPartPos> prioritizedPositions) {
+        List<PartPos> positions = Lists.newArrayList();
+        for (IPositionedAddonsNetwork.PrioritizedPartPos prioritizedPartPos : prioritizedPositions) {
+            positions.add(prioritizedPartPos.getPartPos());
+        }
+        return positions;
+    }
+
+    @Test
+    public void testEmpty() {
+        assertThat(network.getPositions().isEmpty(), is(true));
+        assertThat(network.getPrioritizedPositions().iterator().hasNext(), is(false));
+    }
+
+    @Test
+    public void testAddSortedByPriority() {
+        assertThat(network.addPosition(C, 0), is(true));
+        assertThat(network.addPosition(B, 10), is(true));
+        assertThat(network.addPosition(A, 0), is(true));
+        assertThat(toPositions(network.getPositions()), is(Lists.newArrayList(B, A, C)));
+    }
+
+    @Test
+    public void testAddExisting() {
+        network.addPosition(A, 0);
+        network.addPosition(B, 5);
+        assertThat(network.addPosition(A, 0), is(false));
+        assertThat(network.getPositions().size(), is(2));
+
+        // Changing the priority moves the position to another bucket
+        assertThat(network.addPosition(A, 10), is(true));
+        assertThat(network.getPositions().size(), is(2));
+        assertThat(toPositions(network.getPositions()), is(Lists.newArrayList(A, B)));
+    }
+
+    @Test
+    public void testRemove() {
+        network.addPosition(A, 0);
+        network.addPosition(B, 10);
+        network.removePosition(B);
+        assertThat(toPositions(network.getPositions()), is(Lists.newArrayList(A)));
+        network.removePosition(B);
+        network.removePosition(A);
+        assertThat(network.getPositions().isEmpty(), is(true));
+        assertThat(network.getPrioritizedPositions().iterator().hasNext(), is(false));
+    }
+
+    @Test
+    public void testPositionsSnapshot() {
+        network.addPosition(A, 0);
+        assertThat(network.getPositions(), sameInstance(network.getPositions()));
+
+        Set<IPositionedAddonsNetwork.PrioritizedPartPos> snapshot = network.getPositions();
+        network.addPosition(B, 0);
+        assertThat(network.getPositions(), not(sameInstance(snapshot)));
+        assertThat(snapshot.size(), is(1));
+    }
+
+    @Test
+    public void testPrioritizedPositionsRotate() {
+        network.addPosition(A, 0);
+        network.addPosition(B, 10);
+        network.addPosition(C, 0);
+        assertThat(toPositions(network.getPrioritizedPositions()), is(Lists.newArrayList(B, A, C)));
+        network.rotatePrioritizedPositions();
+        assertThat(toPositions(network.getPrioritizedPositions()), is(Lists.newArrayList(B, C, A)));
+        network.rotatePrioritizedPositions();
+        assertThat(toPositions(network.getPrioritizedPositions()), is(Lists.newArrayList(B, A, C)));
+    }
+
+    @Test
+    public void testPrioritizedPositionsStableWithoutRotate() {
+        network.addPosition(A, 0);
+        network.addPosition(C, 0);
+        assertThat(toPositions(network.getPrioritizedPositions()), is(Lists.newArrayList(A, C)));
+        assertThat(toPositions(network.getPrioritizedPositions()), is(Lists.newArrayList(A, C)));
+    }
+
+    @Test
+    public void testPrioritizedPositionsSnapshotNotRotated() {
+        network.addPosition(A, 0);
+        network.addPosition(C, 0);
+        Iterable<IPositionedAddonsNetwork.PrioritizedPartPos> positions = network.getPrioritizedPositions();
+        network.rotatePrioritizedPositions();
+        assertThat(toPositions(positions), is(Lists.newArrayList(A, C)));
+        assertThat(toPositions(network.getPrioritizedPositions()), is(Lists.newArrayList(C, A)));
+    }
+
+    @Test
+    public void testPrioritizedPositionsReiterable() {
+        network.addPosition(A, 0);
+        network.addPosition(C, 0);
+        Iterable<IPositionedAddonsNetwork.PrioritizedPartPos> positions = network.getPrioritizedPositions();
+        assertThat(toPositions(positions), is(Lists.newArrayList(A, C)));
+        assertThat(toPositions(positions), is(Lists.newArrayList(A, C)));
+    }
+
+    @Test
+    public void testDisabledPositions() {
+        assertThat(network.isPositionDisabled(A), is(false));
+        network.disablePosition(A);
+        assertThat(network.isPositionDisabled(A), is(true));
+        assertThat(network.isPositionDisabled(B), is(false));
+        network.enablePosition(A);
+        assertThat(network.isPositionDisabled(A), is(false));
+    }
+
+}
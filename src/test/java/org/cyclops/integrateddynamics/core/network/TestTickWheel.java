@@ -0,0 +1,118 @@
+package org.cyclops.integrateddynamics.core.network;
+
+import com.google.common.collect.Lists;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the tick wheel scheduling.
+ * @author rubensworks
+ */
+public class TestTickWheel {
+
+    private TickWheel<Integer> wheel;
+
+    @Before
+    public void before() {
+        wheel = new TickWheel<>();
+    }
+
+    protected int advanceUntilDue(int element, int maxTicks) {
+        for (int tick = 1; tick <= maxTicks; tick++) {
+            if (wheel.advance().contains(element)) {
+                return tick;
+            }
+        }
+        return -1;
+    }
+
+    @Test
+    public void testEmpty() {
+        assertThat(wheel.advance(), is(Collections.<Integer>emptyList()));
+        assertThat(wheel.getCurrentTick(), is(1L));
+        assertThat(wheel.size(), is(0));
+    }
+
+    @Test
+    public void testScheduleNextTick() {
+        wheel.schedule(1, 1);
+        assertThat(wheel.contains(1), is(true));
+        assertThat(wheel.advance(), is(Lists.newArrayList(1)));
+        assertThat(wheel.contains(1), is(false));
+        assertThat(wheel.size(), is(0));
+    }
+
+    @Test
+    public void testScheduleClamped() {
+        wheel.schedule(1, 0);
+        assertThat(wheel.advance(), is(Lists.newArrayList(1)));
+        wheel.schedule(2, TickWheel.MAX_DELAY + 100);
+        assertThat(advanceUntilDue(2, TickWheel.MAX_DELAY + 100), is(TickWheel.MAX_DELAY));
+    }
+
+    @Test
+    public void testScheduleDelays() {
+        for (int delay : new int[]{2, 63, 64, 65, 100, 4095, 4096, 4097, 10000}) {
+            wheel.schedule(delay, delay);
+            assertThat("delay " + delay, advanceUntilDue(delay, TickWheel.MAX_DELAY), is(delay));
+        }
+    }
+
+    @Test
+    public void testScheduleDelaysAfterAdvance() {
+        for (int i = 0; i < 70; i++) {
+            wheel.advance();
+        }
+        for (int delay : new int[]{1, 58, 59, 60, 200, 5000}) {
+            wheel.schedule(delay, delay);
+            assertThat("delay " + delay, advanceUntilDue(delay, TickWheel.MAX_DELAY), is(delay));
+        }
+    }
+
+    @Test
+    public void testNaturalOrder() {
+        wheel.schedule(3, 5);
+        wheel.schedule(1, 5);
+        wheel.schedule(2, 5);
+        List<Integer> due = Collections.emptyList();
+        for (int i = 0; i < 5; i++) {
+            due = wheel.advance();
+        }
+        assertThat(due, is(Lists.newArrayList(1, 2, 3)));
+    }
+
+    @Test
+    public void testReschedule() {
+        wheel.schedule(1, 10);
+        wheel.schedule(1, 2);
+        assertThat(wheel.size(), is(1));
+        assertThat(advanceUntilDue(1, 20), is(2));
+        assertThat(advanceUntilDue(1, 20), is(-1));
+    }
+
+    @Test
+    public void testRemove() {
+        wheel.schedule(1, 10);
+        wheel.advance();
+        assertThat(wheel.remove(1), is(9));
+        assertThat(wheel.remove(1), is(-1));
+        assertThat(advanceUntilDue(1, 20), is(-1));
+    }
+
+    @Test
+    public void testClear() {
+        wheel.schedule(1, 1);
+        wheel.schedule(2, 100);
+        wheel.clear();
+        assertThat(wheel.size(), is(0));
+        assertThat(advanceUntilDue(1, 200), is(-1));
+        assertThat(advanceUntilDue(2, 200), is(-1));
+    }
+
+}
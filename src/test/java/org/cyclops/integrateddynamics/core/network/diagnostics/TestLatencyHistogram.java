@@ -0,0 +1,97 @@
+package org.cyclops.integrateddynamics.core.network.diagnostics;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the latency histogram.
+ * @author rubensworks
+ */
+public class TestLatencyHistogram {
+
+    private LatencyHistogram histogram;
+
+    @Before
+    public void before() {
+        histogram = new LatencyHistogram();
+    }
+
+    @Test
+    public void testEmpty() {
+        assertThat(histogram.getCount(), is(0L));
+        assertThat(histogram.getTotalNs(), is(0L));
+        assertThat(histogram.getMeanNs(), is(0L));
+        assertThat(histogram.getMaxNs(), is(0L));
+        assertThat(histogram.getPercentileNs(0.5D), is(0L));
+    }
+
+    @Test
+    public void testRecord() {
+        histogram.record(100);
+        histogram.record(200);
+        histogram.record(300);
+        assertThat(histogram.getCount(), is(3L));
+        assertThat(histogram.getTotalNs(), is(600L));
+        assertThat(histogram.getMeanNs(), is(200L));
+        assertThat(histogram.getMaxNs(), is(300L));
+    }
+
+    @Test
+    public void testPercentiles() {
+        histogram.record(100); // Bucket [64, 128)
+        histogram.record(200); // Bucket [128, 256)
+        histogram.record(300); // Bucket [256, 512)
+        assertThat(histogram.getPercentileNs(0D), is(128L));
+        assertThat(histogram.getPercentileNs(0.3D), is(128L));
+        assertThat(histogram.getPercentileNs(0.5D), is(256L));
+        // The upper bound of the last bucket is limited by the maximum
+        assertThat(histogram.getPercentileNs(0.99D), is(300L));
+        assertThat(histogram.getPercentileNs(1D), is(300L));
+    }
+
+    @Test
+    public void testPercentilesSkewed() {
+        for (int i = 0; i < 99; i++) {
+            histogram.record(10);
+        }
+        histogram.record(1000000);
+        assertThat(histogram.getPercentileNs(0.5D), is(16L));
+        assertThat(histogram.getPercentileNs(0.99D), is(16L));
+        assertThat(histogram.getPercentileNs(1D), is(1000000L));
+    }
+
+    @Test
+    public void testRecordZero() {
+        histogram.record(0);
+        assertThat(histogram.getCount(), is(1L));
+        assertThat(histogram.getMaxNs(), is(0L));
+        assertThat(histogram.getPercentileNs(0.5D), is(0L));
+    }
+
+    @Test
+    public void testRecordLarge() {
+        histogram.record(Long.MAX_VALUE);
+        assertThat(histogram.getCount(), is(1L));
+        assertThat(histogram.getMaxNs(), is(Long.MAX_VALUE));
+        assertThat(histogram.getPercentileNs(0.5D), is(1L << 47));
+    }
+
+    @Test
+    public void testReset() {
+        histogram.record(100);
+        histogram.record(200);
+        histogram.reset();
+        assertThat(histogram.getCount(), is(0L));
+        assertThat(histogram.getTotalNs(), is(0L));
+        assertThat(histogram.getMaxNs(), is(0L));
+        assertThat(histogram.getPercentileNs(0.5D), is(0L));
+
+        histogram.record(50);
+        assertThat(histogram.getCount(), is(1L));
+        assertThat(histogram.getPercentileNs(0.5D), is(50L));
+    }
+
+}
@@ -0,0 +1,211 @@
+package org.cyclops.integrateddynamics.core.network.event;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import org.cyclops.integrateddynamics.GeneralConfig;
+import org.cyclops.integrateddynamics.api.network.IEventListenableNetworkElement;
+import org.cyclops.integrateddynamics.api.network.INetwork;
+import org.cyclops.integrateddynamics.api.network.INetworkElement;
+import org.cyclops.integrateddynamics.api.network.INetworkEventListener;
+import org.cyclops.integrateddynamics.api.network.event.ICoalescableNetworkEvent;
+import org.cyclops.integrateddynamics.api.network.event.INetworkEvent;
+import org.cyclops.integrateddynamics.core.network.NetworkElementBase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the delivery and coalescing of network events.
+ * @author rubensworks
+ */
+public class TestNetworkEventBus {
+
+    private boolean coalesceNetworkEvents;
+    private NetworkEventBus bus;
+    private DummyListener listener;
+
+    @Before
+    public void before() {
+        coalesceNetworkEvents = GeneralConfig.coalesceNetworkEvents;
+        GeneralConfig.coalesceNetworkEvents = true;
+        bus = new NetworkEventBus();
+        listener = new DummyListener();
+        bus.register(listener, DummyEvent.class);
+        bus.register(listener, DummyCoalescableEvent.class);
+    }
+
+    @After
+    public void after() {
+        GeneralConfig.coalesceNetworkEvents = coalesceNetworkEvents;
+    }
+
+    @Test
+    public void testPostDirect() {
+        DummyEvent event = new DummyEvent();
+        bus.post(event);
+        assertThat(listener.events, is(Lists.<INetworkEvent>newArrayList(event)));
+    }
+
+    @Test
+    public void testPostCoalesced() {
+        DummyCoalescableEvent event1 = new DummyCoalescableEvent();
+        DummyCoalescableEvent event2 = new DummyCoalescableEvent();
+        bus.post(event1);
+        bus.post(event2);
+        assertThat(listener.events.isEmpty(), is(true));
+
+        bus.flushCoalescedEvents();
+        assertThat(listener.events, is(Lists.<INetworkEvent>newArrayList(event1)));
+
+        bus.flushCoalescedEvents();
+        assertThat(listener.events.size(), is(1));
+    }
+
+    @Test
+    public void testPostCoalescedDisabled() {
+        GeneralConfig.coalesceNetworkEvents = false;
+        DummyCoalescableEvent event1 = new DummyCoalescableEvent();
+        DummyCoalescableEvent event2 = new DummyCoalescableEvent();
+        bus.post(event1);
+        bus.post(event2);
+        assertThat(listener.events, is(Lists.<INetworkEvent>newArrayList(event1, event2)));
+    }
+
+    @Test
+    public void testPostCoalescedWithoutListeners() {
+        bus.unregister(listener, DummyCoalescableEvent.class);
+        bus.post(new DummyCoalescableEvent());
+        bus.flushCoalescedEvents();
+        assertThat(listener.events.isEmpty(), is(true));
+    }
+
+    @Test
+    public void testClearCoalescedEvents() {
+        bus.post(new DummyCoalescableEvent());
+        bus.clearCoalescedEvents();
+        bus.flushCoalescedEvents();
+        assertThat(listener.events.isEmpty(), is(true));
+    }
+
+    @Test
+    public void testPostDuringFlush() {
+        DummyCoalescableEvent event1 = new DummyCoalescableEvent();
+        DummyCoalescableEvent event2 = new DummyCoalescableEvent();
+        listener.onEvent = () -> bus.post(event2);
+        bus.post(event1);
+
+        bus.flushCoalescedEvents();
+        assertThat(listener.events, is(Lists.<INetworkEvent>newArrayList(event1)));
+
+        listener.onEvent = null;
+        bus.flushCoalescedEvents();
+        assertThat(listener.events, is(Lists.<INetworkEvent>newArrayList(event1, event2)));
+    }
+
+    @Test
+    public void testPostElementAddedNotCoalesced() {
+        bus.register(listener, NetworkElementAddEvent.Post.class);
+        NetworkElementAddEvent.Post event1 = new NetworkElementAddEvent.Post(null, new DummyListener());
+        NetworkElementAddEvent.Post event2 = new NetworkElementAddEvent.Post(null, new DummyListener());
+        bus.post(event1);
+        bus.post(event2);
+        assertThat(listener.events, is(Lists.<INetworkEvent>newArrayList(event1, event2)));
+    }
+
+    @Test
+    public void testRegisterTwice() {
+        bus.register(listener, DummyEvent.class);
+        bus.post(new DummyEvent());
+        assertThat(listener.events.size(), is(1));
+    }
+
+    @Test
+    public void testUnregister() {
+        bus.unregister(listener);
+        bus.post(new DummyEvent());
+        bus.post(new DummyCoalescableEvent());
+        bus.flushCoalescedEvents();
+        assertThat(listener.events.isEmpty(), is(true));
+    }
+
+    public static class DummyEvent implements INetworkEvent {
+        @Override
+        public INetwork getNetwork() {
+            return null;
+        }
+    }
+
+    public static class DummyCoalescableEvent implements ICoalescableNetworkEvent {
+        @Override
+        public INetwork getNetwork() {
+            return null;
+        }
+    }
+
+    public static class DummyListener extends NetworkElementBase
+            implements IEventListenableNetworkElement<DummyListener>, INetworkEventListener<DummyListener> {
+
+        private final List<INetworkEvent> events = Lists.newArrayList();
+        private Runnable onEvent = null;
+
+        @Override
+        public DummyListener getNetworkEventListener() {
+            return this;
+        }
+
+        @Override
+        public boolean hasEventSubscriptions() {
+            return true;
+        }
+
+        @Override
+        public Set<Class<? extends INetworkEvent>> getSubscribedEvents() {
+            return Sets.newHashSet(DummyEvent.class, DummyCoalescableEvent.class);
+        }
+
+        @Override
+        public void onEvent(INetworkEvent event, DummyListener networkElement) {
+            events.add(event);
+            if (onEvent != null) {
+                onEvent.run();
+            }
+        }
+
+        @Override
+        public void setPriority(INetwork network, int priority) {
+
+        }
+
+        @Override
+        public int getPriority() {
+            return 0;
+        }
+
+        @Override
+        public boolean canRevalidate(INetwork network) {
+            return false;
+        }
+
+        @Override
+        public int compareTo(INetworkElement o) {
+            return Integer.compare(System.identityHashCode(this), System.identityHashCode(o));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o == this;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
+    }
+
+}
@@ -0,0 +1,94 @@
+package org.cyclops.integrateddynamics.core.part.aspect;
+
+import net.minecraft.entity.Entity;
+import org.cyclops.integrateddynamics.api.evaluate.EvaluationException;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValue;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IValueType;
+import org.cyclops.integrateddynamics.api.evaluate.variable.IVariable;
+import org.cyclops.integrateddynamics.core.evaluate.expression.LazyExpression;
+import org.cyclops.integrateddynamics.core.evaluate.expression.TestLazyExpression;
+import org.cyclops.integrateddynamics.core.evaluate.operator.Operators;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueObjectTypeEntity;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypeInteger;
+import org.cyclops.integrateddynamics.core.evaluate.variable.ValueTypes;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test the versions of aspect variables of readers that update at an interval larger than one tick.
+ * @author rubensworks
+ */
+public class TestLazyAspectVariable {
+
+    private static final int UPDATE_INTERVAL = 5;
+
+    private TestLazyExpression.EpochValueCache cache;
+
+    @Before
+    public void before() {
+        cache = new TestLazyExpression.EpochValueCache();
+    }
+
+    @Test
+    public void testVersionBetweenUpdates() throws EvaluationException {
+        DummyAspectVariable<ValueTypeInteger.ValueInteger> variable =
+                new DummyAspectVariable<>(ValueTypes.INTEGER, ValueTypeInteger.ValueInteger.of(10));
+        LazyExpression expression = new LazyExpression(0, Operators.GENERAL_IDENTITY, new IVariable[]{variable}, cache);
+        assertThat(expression.getValue(), is((IValue) ValueTypeInteger.ValueInteger.of(10)));
+        long version = expression.getVersion();
+
+        for (int tick = 1; tick < UPDATE_INTERVAL; tick++) {
+            cache.clear();
+            assertThat("versions remain the same until the next update", expression.getVersion(), is(version));
+        }
+
+        cache.clear();
+        variable.update();
+        variable.setNextValue(ValueTypeInteger.ValueInteger.of(20));
+        assertThat(expression.getValue(), is((IValue) ValueTypeInteger.ValueInteger.of(20)));
+        assertThat("versions change after an update", expression.getVersion(), not(version));
+    }
+
+    @Test
+    public void testVersionUnknownForEntities() throws EvaluationException {
+        DummyAspectVariable<ValueObjectTypeEntity.ValueEntity> variable =
+                new DummyAspectVariable<>(ValueTypes.OBJECT_ENTITY, ValueObjectTypeEntity.ValueEntity.of((Entity) null));
+        LazyExpression expression = new LazyExpression(0, Operators.GENERAL_IDENTITY, new IVariable[]{variable}, cache);
+        expression.getValue();
+
+        for (int tick = 1; tick < UPDATE_INTERVAL; tick++) {
+            cache.clear();
+            assertThat("entity aspects have no version", variable.getVersion(), is(IVariable.VERSION_UNKNOWN));
+            assertThat("operators on entity aspects are re-evaluated each tick", expression.getVersion(), is(IVariable.VERSION_UNKNOWN));
+        }
+    }
+
+    public static class DummyAspectVariable<V extends IValue> extends LazyAspectVariable<V> {
+
+        private V nextValue;
+
+        public DummyAspectVariable(IValueType<V> type, V value) {
+            super(type, null, null);
+            this.nextValue = value;
+        }
+
+        public void setNextValue(V nextValue) {
+            this.nextValue = nextValue;
+        }
+
+        @Override
+        public V getValueLazy() {
+            return nextValue;
+        }
+
+        @Override
+        protected long getWorldTime() {
+            return 0;
+        }
+    }
+
+}